@@ -2,8 +2,10 @@ package com.company.lotto.config;
 
 import com.company.lotto.domain.Event;
 import com.company.lotto.repository.EventMapper;
-import com.company.lotto.service.NumberPoolService;
+import com.company.lotto.service.PoolGenerationService;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -18,17 +20,22 @@ import org.springframework.stereotype.Component;
 public class DemoDataInitializer implements ApplicationRunner {
 
     private final EventMapper eventMapper;
-    private final NumberPoolService numberPoolService;
+    private final PoolGenerationService poolGenerationService;
 
+    /**
+     * READY 데모 이벤트의 번호 풀을 동시에 생성하고 모두 끝날 때까지 대기
+     */
     @Override
     public void run(ApplicationArguments args) {
-        List<Event> events = eventMapper.findAll();
-        for (Event event : events) {
+        List<CompletableFuture<Void>> jobs = new ArrayList<>();
+        for (Event event : eventMapper.findAll()) {
             if (event.getStatus() == Event.EventStatus.READY) {
                 log.info("데모 이벤트 번호풀 생성 중: {} (ID: {})", event.getName(), event.getEventId());
-                numberPoolService.generatePool(event.getEventId());
-                log.info("데모 이벤트 활성화 완료: {} (ID: {})", event.getName(), event.getEventId());
+                poolGenerationService.start(event.getEventId());
+                jobs.add(poolGenerationService.completion(event.getEventId()));
             }
         }
+        CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new)).join();
+        log.info("데모 이벤트 번호풀 생성 완료: {}건", jobs.size());
     }
 }
@@ -0,0 +1,48 @@
+package com.company.lotto.config;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요청 처리 중 예상되는 실패 사유 (응답의 code 필드)
+ * - 클라이언트는 message 대신 code로 분기
+ */
+public enum ErrorCode {
+
+    // 참가
+    NOT_VERIFIED(HttpStatus.BAD_REQUEST, "인증이 완료되지 않았습니다."),
+    EVENT_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 이벤트입니다."),
+    EVENT_NOT_ACTIVE(HttpStatus.BAD_REQUEST, "진행 중인 이벤트가 아닙니다."),
+    ALREADY_PARTICIPATED(HttpStatus.BAD_REQUEST, "이미 참가한 번호입니다."),
+    PARTICIPATE_CONFLICT(HttpStatus.BAD_REQUEST, "참가 처리 중 오류가 발생했습니다. 다시 시도해주세요."),
+    SLOTS_EXHAUSTED(HttpStatus.BAD_REQUEST, "배정 가능한 슬롯이 없습니다."),
+
+    // 결과 조회
+    ANNOUNCE_NOT_CONFIGURED(HttpStatus.BAD_REQUEST, "발표 기간이 설정되지 않은 이벤트입니다."),
+    ANNOUNCE_NOT_STARTED(HttpStatus.BAD_REQUEST, "아직 발표 기간이 아닙니다."),
+    ANNOUNCE_ENDED(HttpStatus.BAD_REQUEST, "발표 기간이 종료되었습니다."),
+    NOT_PARTICIPATED(HttpStatus.BAD_REQUEST, "참가 이력이 없습니다."),
+    TICKET_NOT_FOUND(HttpStatus.BAD_REQUEST, "발급된 티켓이 없습니다."),
+
+    // 재검증
+    WINNING_NUMBERS_NOT_READY(HttpStatus.BAD_REQUEST, "당첨 번호가 아직 생성되지 않은 이벤트입니다."),
+
+    // 요청 한도 / 대기열
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    QUEUE_NOT_ADMITTED(HttpStatus.TOO_MANY_REQUESTS, "대기 순서가 아직 되지 않았습니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.lotto.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+/**
+ * HTML의 /css, /js 링크를 내용 해시가 붙은 경로로 치환 (/js/lotto.js → /js/lotto-{md5}.js)
+ *
+ * - 정적 HTML이라 템플릿 엔진 없이 서빙 시점에 변환, 결과는 리소스 체인 캐시에 보관 (파일당 1회)
+ * - 해시 경로는 StaticResourceConfig의 /css, /js 핸들러(VersionResourceResolver)가 해석
+ */
+public class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern LINK = Pattern.compile("(src|href)=\"(/(?:css|js)/[^\"]+)\"");
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource, ResourceTransformerChain chain)
+            throws IOException {
+        resource = chain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".html")) {
+            return resource;
+        }
+
+        String content = new String(resource.getContentAsByteArray(), StandardCharsets.UTF_8);
+        Matcher matcher = LINK.matcher(content);
+        StringBuilder result = new StringBuilder(content.length());
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            String versioned = resolveUrlPath(link, request, resource, chain);
+            String replacement = matcher.group(1) + "=\"" + (versioned != null ? versioned : link) + "\"";
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return new TransformedResource(resource, result.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 참가자 Bloom 필터 비트맵 (단일 노드 전용)
+ *
+ * - key별 AtomicLongArray (비트 켜기는 CAS, 잠금 없음)
+ * - 다른 노드에서 참가 / 일괄 등록한 번호는 반영되지 않음 → 실제 참가자를 미참가로 판단하게 되므로
+ *   participant-filter.single-node=true로 단일 노드임을 명시해야 기동 (아니면 redis 사용)
+ * - 만료 없음, 대상 이벤트에서 빠지면 delete로 해제
+ */
+@Component
+@ConditionalOnProperty(name = "participant-filter.store", havingValue = "local")
+public class LocalParticipantFilterStore implements ParticipantFilterStore {
+
+    private final Map<String, AtomicLongArray> bitmaps = new ConcurrentHashMap<>();
+
+    public LocalParticipantFilterStore(
+            @Value("${participant-filter.enabled:false}") boolean enabled,
+            @Value("${participant-filter.single-node:false}") boolean singleNode) {
+        if (enabled && !singleNode) {
+            throw new IllegalStateException(
+                    "participant-filter.store=local은 단일 노드 전용입니다. participant-filter.single-node=true로 명시하거나 store=redis를 사용하세요.");
+        }
+    }
+
+    @Override
+    public void setBits(String key, long size, long[] offsets) {
+        AtomicLongArray bitmap = bitmaps.computeIfAbsent(key, k -> new AtomicLongArray((int) ((size + 63) >>> 6)));
+        for (long offset : offsets) {
+            long bit = 1L << offset;
+            bitmap.accumulateAndGet((int) (offset >>> 6), bit, (a, b) -> a | b);
+        }
+    }
+
+    @Override
+    public boolean[] getBits(String key, long size, long[] offsets) {
+        boolean[] bits = new boolean[offsets.length];
+        AtomicLongArray bitmap = bitmaps.get(key);
+        if (bitmap == null) return bits;
+        for (int i = 0; i < offsets.length; i++) {
+            bits[i] = (bitmap.get((int) (offsets[i] >>> 6)) & (1L << offsets[i])) != 0;
+        }
+        return bits;
+    }
+
+    @Override
+    public long countBits(String key) {
+        AtomicLongArray bitmap = bitmaps.get(key);
+        if (bitmap == null) return 0;
+        long count = 0;
+        for (int i = 0; i < bitmap.length(); i++) {
+            count += Long.bitCount(bitmap.get(i));
+        }
+        return count;
+    }
+
+    @Override
+    public void expire(String key, Duration ttl) {
+        // 대상 이벤트에서 빠질 때 delete로 해제
+    }
+
+    @Override
+    public void delete(String key) {
+        bitmaps.remove(key);
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 토큰 버킷 Rate Limiter (단일 노드 / 기본값)
+ *
+ * - 버킷은 key 해시로 나눈 stripe별 LRU 맵에 저장 (stripe 단위 락 → 경합 분산)
+ * - stripe마다 최대 maxKeys / STRIPES 개까지만 보관, 넘치면 가장 오래 안 쓴 버킷부터 제거 (메모리 상한)
+ * - 버킷 용량 = limit, window 동안 limit개가 균등하게 다시 채워짐
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private static final int STRIPES = 32;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public LocalRateLimiter(@Value("${rate-limit.max-keys:200000}") int maxKeys) {
+        int perStripe = Math.max(maxKeys / STRIPES, 16);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        Stripe stripe = stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+        long now = System.nanoTime();
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(limit, now);
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(limit, window.toNanos(), now);
+        }
+    }
+
+    private static final class Stripe {
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxEntries) {
+            // accessOrder = true → get() 시 최근 사용으로 이동, removeEldestEntry로 LRU 제거
+            this.buckets = new LinkedHashMap<>(maxEntries * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        private boolean tryConsume(int capacity, long windowNanos, long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + (double) elapsed * capacity / windowNanos);
+                lastRefillNanos = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.company.lotto.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/개발용 SMS 발송기 - 실제 발송 없이 로그만 남김
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.sender", havingValue = "local", matchIfMissing = true)
+public class LocalSmsSender implements SmsSender {
+
+    @Override
+    public void send(String phoneNumber, String text) {
+        String last4 = phoneNumber.length() > 4 ? phoneNumber.substring(phoneNumber.length() - 4) : phoneNumber;
+        log.debug("[SMS] ****{} : {}", last4, text);
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 대기열 (단일 노드 / 기본값)
+ *
+ * - 이벤트마다 발급 순번(issued)과 입장 커서(admitted)만 유지
+ * - 커서는 조회할 때 경과 시간 × admitPerSecond 만큼 앞으로 이동 (타이머 스레드 없음)
+ * - 커서는 issued + burst 를 넘지 못함 → 한가할 때는 바로 입장, 몰리면 초당 admitPerSecond명씩
+ * - 토큰은 token-ttl 동안만 보관, 1분마다 만료된 토큰 + token-ttl 동안 입장이 없는 이벤트 대기열 정리
+ * - 토큰은 처음 사용한 전화번호에 묶이고, 참가가 끝나면 삭제
+ */
+@Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "local", matchIfMissing = true)
+public class LocalWaitingRoom implements WaitingRoom {
+
+    private final Map<Long, Line> lines = new ConcurrentHashMap<>();
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final long tokenTtlMillis;
+
+    public LocalWaitingRoom(@Value("${queue.token-ttl-minutes:30}") long tokenTtlMinutes) {
+        this.tokenTtlMillis = Duration.ofMinutes(tokenTtlMinutes).toMillis();
+    }
+
+    @Override
+    public QueueTicket enter(Long eventId, double admitPerSecond, int burst) {
+        long now = System.currentTimeMillis();
+        Line line = lines.computeIfAbsent(eventId, id -> new Line(burst, now));
+        long seq;
+        long admitted;
+        synchronized (line) {
+            admitted = line.advance(now, admitPerSecond, burst);
+            seq = ++line.issued;
+            line.lastEnterMillis = now;
+        }
+
+        String token = eventId + "-" + UUID.randomUUID();
+        tokens.put(token, new Entry(eventId, seq, now + tokenTtlMillis, null));
+        return new QueueTicket(token, eventId, seq, admitted);
+    }
+
+    @Override
+    public QueueTicket status(String token, double admitPerSecond, int burst) {
+        Entry entry = tokens.get(token);
+        long now = System.currentTimeMillis();
+        if (entry == null || entry.expiresAt() < now) return null;
+
+        Line line = lines.get(entry.eventId());
+        if (line == null) return null;
+        long admitted;
+        synchronized (line) {
+            admitted = line.advance(now, admitPerSecond, burst);
+        }
+        return new QueueTicket(token, entry.eventId(), entry.seq(), admitted);
+    }
+
+    @Override
+    public boolean bind(String token, String phoneKey) {
+        long now = System.currentTimeMillis();
+        Entry bound = tokens.computeIfPresent(token, (key, entry) ->
+                entry.phoneKey() == null && entry.expiresAt() >= now
+                        ? new Entry(entry.eventId(), entry.seq(), entry.expiresAt(), phoneKey)
+                        : entry);
+        return bound != null && bound.expiresAt() >= now && phoneKey.equals(bound.phoneKey());
+    }
+
+    @Override
+    public void consume(String token, String phoneKey) {
+        tokens.computeIfPresent(token, (key, entry) -> phoneKey.equals(entry.phoneKey()) ? null : entry);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(entry -> entry.expiresAt() < now);
+        // 마지막 입장 후 token-ttl이 지난 대기열 = 남은 토큰 없음 (종료된 이벤트 포함)
+        lines.values().removeIf(line -> {
+            synchronized (line) {
+                return line.lastEnterMillis + tokenTtlMillis < now;
+            }
+        });
+    }
+
+    private record Entry(Long eventId, long seq, long expiresAt, String phoneKey) {
+    }
+
+    private static final class Line {
+        private long issued;
+        private long admitted;
+        private long lastMillis;
+        private long lastEnterMillis;
+
+        // 처음에는 burst명까지 바로 입장
+        private Line(int burst, long now) {
+            this.admitted = burst;
+            this.lastMillis = now;
+            this.lastEnterMillis = now;
+        }
+
+        private long advance(long now, double admitPerSecond, int burst) {
+            long add = (long) ((now - lastMillis) * admitPerSecond / 1000);
+            if (add > 0) {
+                admitted += add;
+                // 나머지 시간은 다음 계산으로 이월
+                lastMillis += (long) (add * 1000 / admitPerSecond);
+            }
+            if (admitted >= issued + burst) {
+                admitted = issued + burst;
+                lastMillis = now;
+            }
+            return admitted;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.lotto.config;
+
+/**
+ * 요청 처리 중 예상되는 실패 (인증 미완료, 이벤트 종료, 중복 참가, 발표 기간 외 등)
+ *
+ * - 정상적인 거절이라 스택 트레이스가 필요 없음 → 만들지 않음 (종료된 이벤트에 요청이 몰릴 때 CPU 절약)
+ * - 코드별 인스턴스를 미리 만들어 두고 재사용 (throw 할 때 할당 없음)
+ * - GlobalExceptionHandler가 ApiResponse(code, message)로 변환
+ */
+public class LottoException extends RuntimeException {
+
+    private static final LottoException[] CACHED = new LottoException[ErrorCode.values().length];
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            CACHED[code.ordinal()] = new LottoException(code);
+        }
+    }
+
+    private final ErrorCode code;
+
+    protected LottoException(ErrorCode code) {
+        super(code.getMessage(), null, false, false);
+        this.code = code;
+    }
+
+    /**
+     * 코드에 해당하는 공유 인스턴스 (스택 트레이스 / suppression 비활성화라 공유해도 안전)
+     */
+    public static LottoException of(ErrorCode code) {
+        return CACHED[code.ordinal()];
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+}
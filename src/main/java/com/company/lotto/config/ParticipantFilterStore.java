@@ -0,0 +1,38 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+
+/**
+ * 참가자 Bloom 필터 비트 저장소
+ *
+ * - key마다 size 비트짜리 비트맵, 없는 key는 모든 비트가 0
+ * - 비트는 켜기만 함 (끄려면 key 삭제 후 다시 적재)
+ */
+public interface ParticipantFilterStore {
+
+    /**
+     * offsets 위치 비트를 모두 켬 (key가 없으면 생성)
+     */
+    void setBits(String key, long size, long[] offsets);
+
+    /**
+     * offsets 위치 비트 조회
+     *
+     * @return offsets와 같은 순서의 비트 값
+     */
+    boolean[] getBits(String key, long size, long[] offsets);
+
+    /**
+     * 켜진 비트 수 (상태 조회용 - 비트맵 전체를 읽음)
+     */
+    long countBits(String key);
+
+    void expire(String key, Duration ttl);
+
+    void delete(String key);
+
+    /**
+     * 노드 간 공유 여부 - 공유 저장소면 리더 노드만 적재
+     */
+    boolean isShared();
+}
@@ -0,0 +1,19 @@
+package com.company.lotto.config;
+
+/**
+ * 대기열 토큰 상태
+ *
+ * @param seq          이벤트 안에서 발급된 순번 (1부터)
+ * @param admittedUpTo 지금까지 입장이 허용된 마지막 순번 (시간에 따라 증가만 함)
+ */
+public record QueueTicket(String token, Long eventId, long seq, long admittedUpTo) {
+
+    public boolean admitted() {
+        return seq <= admittedUpTo;
+    }
+
+    // 내 앞에 남은 인원
+    public long ahead() {
+        return Math.max(seq - admittedUpTo - 1, 0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.lotto.config;
+
+import com.company.lotto.service.VerificationService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증/참가 API 요청 한도 검사
+ *
+ * - 컨트롤러에서 서비스 호출 전에 실행 → 한도 초과 요청은 DB/Redis 작업 없이 바로 429
+ * - 휴대폰 번호 기준이 주 한도, 클라이언트 IP는 기본으로 켜 둔 높은 보조 상한
+ *   (모바일 통신사 CGNAT 뒤에서는 사용자 수천 명이 IP 1개를 공유 → 낮은 IP 한도는 오픈 시각에 정상 사용자를 막음)
+ *   (번호를 바꿔 가며 보내는 요청, 번호가 없는 대기열/인증 확인 요청은 IP 상한만 막을 수 있음)
+ * - 헤더의 IP는 신뢰하는 프록시가 붙인 오른쪽 항목을 사용 (맨 왼쪽 항목은 클라이언트가 임의로 넣을 수 있음)
+ * - 휴대폰 번호는 원문 대신 해시로 키를 만듦 (원문을 메모리/Redis에 남기지 않음)
+ * - 키 형식: {action}:p:{phoneHash}, {action}:ip:{clientIp}
+ */
+@Component
+public class RateLimitGuard {
+
+    private final RateLimiter rateLimiter;
+    private final VerificationService verificationService;
+
+    private final boolean enabled;
+    private final int phoneLimit;
+    private final Duration phoneWindow;
+    private final boolean ipEnabled;
+    private final int ipLimit;
+    private final Duration ipWindow;
+
+    // 프록시/로드밸런서 뒤에서 실제 클라이언트 IP를 담는 헤더 (비어 있으면 remoteAddr 사용)
+    private final String clientIpHeader;
+
+    // 헤더에 항목을 덧붙이는 신뢰 프록시 수 - 오른쪽에서 이 번째 항목을 클라이언트 IP로 사용
+    private final int trustedProxies;
+
+    public RateLimitGuard(
+            RateLimiter rateLimiter,
+            VerificationService verificationService,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.phone.limit:5}") int phoneLimit,
+            @Value("${rate-limit.phone.window-seconds:60}") long phoneWindowSeconds,
+            @Value("${rate-limit.ip.enabled:true}") boolean ipEnabled,
+            @Value("${rate-limit.ip.limit:3000}") int ipLimit,
+            @Value("${rate-limit.ip.window-seconds:60}") long ipWindowSeconds,
+            @Value("${rate-limit.client-ip-header:}") String clientIpHeader,
+            @Value("${rate-limit.trusted-proxies:1}") int trustedProxies) {
+        if (trustedProxies < 1) {
+            throw new IllegalStateException("rate-limit.trusted-proxies는 1 이상이어야 함: " + trustedProxies);
+        }
+        this.rateLimiter = rateLimiter;
+        this.verificationService = verificationService;
+        this.enabled = enabled;
+        this.phoneLimit = phoneLimit;
+        this.phoneWindow = Duration.ofSeconds(phoneWindowSeconds);
+        this.ipEnabled = ipEnabled;
+        this.ipLimit = ipLimit;
+        this.ipWindow = Duration.ofSeconds(ipWindowSeconds);
+        this.clientIpHeader = clientIpHeader;
+        this.trustedProxies = trustedProxies;
+    }
+
+    /**
+     * 클라이언트 IP 보조 상한 검사 (기본 켜짐, 해시 계산 전에 거절)
+     * 이후 phoneNumber가 있으면 휴대폰 번호 기준 한도 검사
+     */
+    public void check(String action, String phoneNumber, HttpServletRequest request) {
+        if (!enabled) return;
+
+        if (ipEnabled && !rateLimiter.tryAcquire(action + ":ip:" + clientIp(request), ipLimit, ipWindow)) {
+            throw LottoException.of(ErrorCode.RATE_LIMITED);
+        }
+        if (phoneNumber != null && !phoneNumber.isBlank()) {
+            String key = action + ":p:" + verificationService.hashPhone(phoneNumber);
+            if (!rateLimiter.tryAcquire(key, phoneLimit, phoneWindow)) {
+                throw LottoException.of(ErrorCode.RATE_LIMITED);
+            }
+        }
+    }
+
+    /**
+     * 클라이언트 IP 기준 한도만 검사 (휴대폰 번호가 없는 요청용, IP 상한을 끄면 통과)
+     */
+    public void check(String action, HttpServletRequest request) {
+        check(action, null, request);
+    }
+
+    /**
+     * 클라이언트 IP 결정
+     *
+     * - "client, proxy1, proxy2" 형식에서 왼쪽 항목은 클라이언트가 보낸 값 그대로라 위조 가능
+     * - 신뢰 프록시 N개가 각자 앞 단계 주소를 오른쪽에 덧붙이므로 오른쪽에서 N번째 항목이 실제 접속 IP
+     * - 항목이 N개보다 적으면 (프록시를 거치지 않은 요청) remoteAddr 사용
+     */
+    String clientIp(HttpServletRequest request) {
+        if (!clientIpHeader.isEmpty()) {
+            String forwarded = request.getHeader(clientIpHeader);
+            if (forwarded != null && !forwarded.isBlank()) {
+                String[] hops = forwarded.split(",");
+                int index = hops.length - trustedProxies;
+                if (index >= 0) {
+                    String ip = hops[index].trim();
+                    if (!ip.isEmpty()) return ip;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+
+public interface RateLimiter {
+
+    /**
+     * key 기준으로 window 동안 limit회까지 허용
+     *
+     * @return 허용이면 true, 한도 초과면 false
+     */
+    boolean tryAcquire(String key, int limit, Duration window);
+}
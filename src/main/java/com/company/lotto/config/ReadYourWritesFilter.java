@@ -0,0 +1,92 @@
+package com.company.lotto.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 복제본 라우팅 시 read-your-writes 보장
+ *
+ * - sticky-paths 로 들어온 쓰기 요청(GET 외)이면 응답에 "primary 고정" 쿠키(만료 시각)를 심음
+ * - 쿠키가 아직 유효한 요청은 읽기 전용 트랜잭션도 primary에서 실행 → 방금 참가한 사람은 복제 지연과 상관없이 자기 기록을 봄
+ * - 나머지 요청은 그대로 복제본 사용 (대기열 / 목록 조회 등 대부분의 트래픽)
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "lotto-primary-until";
+
+    private final long stickyMillis;
+    private final List<String> stickyPaths;
+
+    public ReadYourWritesFilter(
+            @Value("${datasource.replica.sticky-seconds:5}") long stickySeconds,
+            @Value("${datasource.replica.sticky-paths:/api/lotto/participate,/api/events}") List<String> stickyPaths) {
+        this.stickyMillis = stickySeconds * 1000;
+        this.stickyPaths = stickyPaths.stream().map(String::trim).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        long until = primaryUntil(request);
+        // 직접 조작해서 길게 늘린 값은 무시 (항상 primary로 읽는 클라이언트 방지)
+        boolean sticky = until > now && until <= now + stickyMillis;
+
+        if (isStickyWrite(request)) {
+            // 응답 본문이 쓰이기 전에 심어야 하므로 처리 전에 설정 (실패한 요청이어도 primary로 읽을 뿐)
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(now + stickyMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.ceil(stickyMillis / 1000.0));
+            response.addCookie(cookie);
+            sticky = true;
+        }
+
+        if (!sticky) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.forcePrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearForcePrimary();
+        }
+    }
+
+    private boolean isStickyWrite(HttpServletRequest request) {
+        if ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())) return false;
+        String uri = request.getRequestURI();
+        for (String path : stickyPaths) {
+            if (uri.startsWith(path)) return true;
+        }
+        return false;
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return 0;
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
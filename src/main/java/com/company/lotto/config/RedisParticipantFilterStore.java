@@ -0,0 +1,75 @@
+package com.company.lotto.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 문자열 비트맵 기반 참가자 Bloom 필터 (다중 노드 / 기본값)
+ *
+ * - 조회 / 추가 모두 BITFIELD 1회 호출 (GET u1 / SET u1 여러 개를 한 명령으로, 왕복 1번)
+ * - 참가 저장은 어느 노드에서든 바로 SET → 모든 노드가 같은 비트맵을 봄
+ * - 문자열 최대 512MB = 2^32 비트 (participant-filter.max-bytes 상한)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "participant-filter.store", havingValue = "redis", matchIfMissing = true)
+public class RedisParticipantFilterStore implements ParticipantFilterStore {
+
+    private static final BitFieldType BIT = BitFieldType.unsigned(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void setBits(String key, long size, long[] offsets) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (long offset : offsets) {
+            commands = commands.set(BIT).valueAt(offset).to(1);
+        }
+        redisTemplate.opsForValue().bitField(key, commands);
+    }
+
+    @Override
+    public boolean[] getBits(String key, long size, long[] offsets) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (long offset : offsets) {
+            commands = commands.get(BIT).valueAt(offset);
+        }
+        List<Long> values = redisTemplate.opsForValue().bitField(key, commands);
+
+        boolean[] bits = new boolean[offsets.length];
+        for (int i = 0; values != null && i < bits.length; i++) {
+            bits[i] = values.get(i) != null && values.get(i) == 1L;
+        }
+        return bits;
+    }
+
+    @Override
+    public long countBits(String key) {
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.stringCommands().bitCount(key.getBytes(StandardCharsets.UTF_8)));
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void expire(String key, Duration ttl) {
+        redisTemplate.expire(key, ttl);
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+}
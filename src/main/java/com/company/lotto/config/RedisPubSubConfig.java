@@ -0,0 +1,22 @@
+package com.company.lotto.config;
+
+import com.company.lotto.scheduler.EventTransitionPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            EventTransitionPublisher eventTransitionPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(eventTransitionPublisher, new ChannelTopic(EventTransitionPublisher.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,47 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Sorted Set 기반 슬라이딩 윈도우 Rate Limiter (다중 노드)
+ *
+ * - 요청 시각(ms)을 score로 ZADD, window 밖의 항목은 ZREMRANGEBYSCORE로 제거 후 ZCARD로 개수 확인
+ * - 확인 + 추가를 Lua 스크립트 1회 호출로 원자 처리 (왕복 1번)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final RedisScript<Long> SLIDING_WINDOW = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[2]))
+            if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[3]) then
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[4])
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        long now = System.currentTimeMillis();
+        String member = now + "-" + ThreadLocalRandom.current().nextInt();
+        Long allowed = redisTemplate.execute(
+                SLIDING_WINDOW,
+                List.of("rate-limit:" + key),
+                String.valueOf(now), String.valueOf(window.toMillis()), String.valueOf(limit), member
+        );
+        return allowed != null && allowed == 1L;
+    }
+}
@@ -0,0 +1,152 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 대기열 (다중 노드)
+ *
+ * - queue:{eventId}:issued        발급 순번 (INCR)
+ * - queue:{eventId}:cursor        입장 커서 해시 {admitted, last}
+ * - queue:{eventId}:token:{token} 토큰 → 순번 (token-ttl)
+ * - queue:{eventId}:bind:{token}  토큰을 처음 사용한 전화번호 식별값 (토큰과 같은 만료 시각), 참가 완료 시 둘 다 삭제
+ * - 키에 {eventId} 해시 태그 → 클러스터에서도 한 슬롯 (스크립트 1회 실행 가능)
+ * - 커서 이동 + 발급/조회를 Lua 스크립트 1회 호출로 원자 처리, 시각은 Redis TIME 사용 (노드 간 시계 차이 무시)
+ * - 토큰에 eventId를 넣어 조회 시 키를 바로 계산 (왕복 1번)
+ */
+@Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis")
+public class RedisWaitingRoom implements WaitingRoom {
+
+    // KEYS[1]=issued, KEYS[2]=cursor / ARGV[1]=admitPerSecond, ARGV[2]=burst → admitted
+    private static final String ADVANCE = """
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local rate = tonumber(ARGV[1])
+            local issued = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local admitted = tonumber(redis.call('HGET', KEYS[2], 'admitted') or ARGV[2])
+            local last = tonumber(redis.call('HGET', KEYS[2], 'last') or now)
+            local add = math.floor((now - last) * rate / 1000)
+            if add > 0 then
+                admitted = admitted + add
+                last = last + math.floor(add * 1000 / rate)
+            end
+            if admitted >= issued + tonumber(ARGV[2]) then
+                admitted = issued + tonumber(ARGV[2])
+                last = now
+            end
+            redis.call('HSET', KEYS[2], 'admitted', admitted, 'last', last)
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            """;
+
+    // KEYS[3]=token / ARGV[3]=ttlMillis → {seq, admitted}
+    private static final RedisScript<List> ENTER = new DefaultRedisScript<>(ADVANCE + """
+            local seq = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('SET', KEYS[3], seq, 'PX', ARGV[3])
+            return {seq, admitted}
+            """, List.class);
+
+    // KEYS[3]=token → {seq, admitted}, 없는 토큰이면 빈 배열
+    private static final RedisScript<List> STATUS = new DefaultRedisScript<>("""
+            local seq = redis.call('GET', KEYS[3])
+            if not seq then return {} end
+            """ + ADVANCE + """
+            return {tonumber(seq), admitted}
+            """, List.class);
+
+    // KEYS[1]=token, KEYS[2]=bind / ARGV[1]=phoneKey → 1(같은 번호에 묶임) / 0
+    private static final RedisScript<Long> BIND = new DefaultRedisScript<>("""
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl <= 0 then return 0 end
+            local bound = redis.call('GET', KEYS[2])
+            if not bound then
+                redis.call('SET', KEYS[2], ARGV[1], 'PX', ttl)
+                return 1
+            end
+            if bound == ARGV[1] then return 1 end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=token, KEYS[2]=bind / ARGV[1]=phoneKey
+    private static final RedisScript<Long> CONSUME = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1], KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long tokenTtlMillis;
+
+    public RedisWaitingRoom(StringRedisTemplate redisTemplate,
+                            @Value("${queue.token-ttl-minutes:30}") long tokenTtlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.tokenTtlMillis = Duration.ofMinutes(tokenTtlMinutes).toMillis();
+    }
+
+    @Override
+    public QueueTicket enter(Long eventId, double admitPerSecond, int burst) {
+        String token = eventId + "-" + UUID.randomUUID();
+        List<?> result = redisTemplate.execute(ENTER, keys(eventId, token),
+                String.valueOf(admitPerSecond), String.valueOf(burst), String.valueOf(tokenTtlMillis));
+        return new QueueTicket(token, eventId, toLong(result.get(0)), toLong(result.get(1)));
+    }
+
+    @Override
+    public QueueTicket status(String token, double admitPerSecond, int burst) {
+        Long eventId = parseEventId(token);
+        if (eventId == null) return null;
+
+        List<?> result = redisTemplate.execute(STATUS, keys(eventId, token),
+                String.valueOf(admitPerSecond), String.valueOf(burst), String.valueOf(tokenTtlMillis));
+        if (result == null || result.isEmpty()) return null;
+        return new QueueTicket(token, eventId, toLong(result.get(0)), toLong(result.get(1)));
+    }
+
+    @Override
+    public boolean bind(String token, String phoneKey) {
+        Long eventId = parseEventId(token);
+        if (eventId == null) return false;
+        Long result = redisTemplate.execute(BIND, bindKeys(eventId, token), phoneKey);
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void consume(String token, String phoneKey) {
+        Long eventId = parseEventId(token);
+        if (eventId == null) return;
+        redisTemplate.execute(CONSUME, bindKeys(eventId, token), phoneKey);
+    }
+
+    private List<String> bindKeys(Long eventId, String token) {
+        String prefix = "queue:{" + eventId + "}:";
+        return List.of(prefix + "token:" + token, prefix + "bind:" + token);
+    }
+
+    private List<String> keys(Long eventId, String token) {
+        String prefix = "queue:{" + eventId + "}:";
+        return List.of(prefix + "issued", prefix + "cursor", prefix + "token:" + token);
+    }
+
+    private Long parseEventId(String token) {
+        int dash = token.indexOf('-');
+        if (dash <= 0) return null;
+        try {
+            return Long.parseLong(token.substring(0, dash));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,84 @@
+package com.company.lotto.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * 읽기 복제본 라우팅 (datasource.replica.enabled=true 일 때만)
+ *
+ * dataSource (LazyConnectionDataSourceProxy)
+ *   ├─ 기본: primaryDataSource (spring.datasource.*)
+ *   └─ readOnly 트랜잭션: ReplicaRoutingDataSource → 복제본 / 지연 시 primary
+ *
+ * - 실제 커넥션을 첫 SQL 실행 시점에 얻으므로 트랜잭션의 readOnly 여부를 보고 대상을 고를 수 있음
+ * - 비활성이면 이 설정은 로드되지 않고 Spring Boot 기본 DataSource 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ResourceLoader resourceLoader,
+            @Value("${datasource.replica.urls}") List<String> urls,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.replica.max-lag-ms:1000}") long maxLagMillis,
+            @Value("${datasource.replica.check-interval-ms:500}") long checkIntervalMillis,
+            @Value("${datasource.replica.init-scripts:}") List<String> initScripts) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls.get(i).trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // 드라이버 설정(PreparedStatement 캐시 등)은 primary와 같게 (spring.datasource.hikari.data-source-properties)
+            replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+
+            // 로컬 H2 복제본처럼 스키마를 직접 만들어야 하는 경우만 (운영 복제본은 비워 둠)
+            if (!initScripts.isEmpty()) {
+                ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+                initScripts.forEach(script -> populator.addScript(resourceLoader.getResource(script.trim())));
+                populator.execute(replica);
+            }
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMillis, checkIntervalMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource.getPrimary());
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
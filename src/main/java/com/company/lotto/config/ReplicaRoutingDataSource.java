@@ -0,0 +1,217 @@
+package com.company.lotto.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 읽기 전용 트랜잭션용 복제본 라우팅
+ *
+ * - LazyConnectionDataSourceProxy의 readOnlyDataSource로만 사용 → @Transactional(readOnly = true)만 여기로 옴
+ *   (쓰기 트랜잭션 / 트랜잭션 밖 조회는 항상 primary)
+ * - 복제본이 여러 개면 라운드 로빈, 지연이 max-lag-ms를 넘었거나 응답하지 않는 복제본은 건너뜀
+ * - 쓸 수 있는 복제본이 없거나 read-your-writes 고정(forcePrimary) 요청이면 primary
+ *
+ * 지연 측정 (하트비트):
+ * - check-interval-ms마다 primary의 replica_heartbeat에 현재 시각(ms)을 씀 (MySQL 복제 / 다른 DB 모두 같은 방식, SHOW REPLICA STATUS 권한 불필요)
+ * - 새 하트비트를 쓰기 전에 primary에 이미 커밋된 마지막 하트비트와 복제본의 값을 비교
+ *   - 복제본이 그 값까지 따라왔으면 지연 0 (방금 쓴 하트비트를 바로 읽으면 정상 복제본도 한 주기만큼 밀려 보임)
+ *   - 못 따라왔으면 현재 시각 - 복제본의 하트비트 (실제 지연보다 최대 한 주기 크게 잡힘)
+ * - 한 주기보다 작은 지연은 구분할 수 없으므로 max-lag-ms는 check-interval-ms 이상이어야 함
+ * - 노드 간 시계 차이만큼 오차가 있으므로 max-lag-ms는 초 단위 여유를 두고 설정
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final JdbcTemplate primaryJdbc;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, long maxLagMillis,
+            long checkIntervalMillis) {
+        if (maxLagMillis > 0 && maxLagMillis < checkIntervalMillis) {
+            throw new IllegalStateException("datasource.replica.max-lag-ms(" + maxLagMillis
+                    + ")는 check-interval-ms(" + checkIntervalMillis + ") 이상이어야 함 (0이면 지연 확인 안 함)");
+        }
+        this.primary = primary;
+        this.primaryJdbc = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLagMillis;
+        this.replicas = new ArrayList<>();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.name(), replica.dataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * 현재 스레드의 읽기 전용 트랜잭션도 primary로 보냄 (방금 쓴 데이터를 바로 읽어야 하는 요청)
+     */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void clearForcePrimary() {
+        PRIMARY_FORCED.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_FORCED.get() != null || replicas.isEmpty()) return PRIMARY;
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) return replica.name();
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * 복제본별 지연 확인 + 다음 확인용 하트비트 기록
+     * - 첫 확인 전까지 복제본은 사용하지 않음 (기동 직후에는 primary, 하트비트 행이 생긴 다음 주기부터 측정)
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval-ms:500}")
+    public void checkLag() {
+        long now = System.currentTimeMillis();
+        Long confirmed;
+        try {
+            confirmed = readBeat(primaryJdbc);
+        } catch (DataAccessException e) {
+            log.warn("primary 하트비트 조회 실패", e);
+            confirmed = null;
+        }
+
+        for (Replica replica : replicas) {
+            boolean healthy;
+            long lagMillis;
+            try {
+                Long replicaBeat = readBeat(replica.jdbc());
+                lagMillis = lag(now, confirmed, replicaBeat);
+                // max-lag-ms <= 0 이면 지연 확인 없이 응답만 되면 사용
+                healthy = maxLagMillis <= 0 || lagMillis <= maxLagMillis;
+            } catch (DataAccessException e) {
+                lagMillis = Long.MAX_VALUE;
+                healthy = false;
+            }
+
+            if (replica.healthy != healthy) {
+                log.warn("복제본 상태 변경: name={}, healthy={}, lagMs={}",
+                        replica.name(), healthy, lagMillis == Long.MAX_VALUE ? "unknown" : lagMillis);
+            }
+            replica.healthy = healthy;
+            replica.lagMillis = lagMillis;
+        }
+
+        try {
+            beat(now);
+        } catch (DataAccessException e) {
+            log.warn("복제 하트비트 기록 실패", e);
+        }
+    }
+
+    /**
+     * primary에 커밋된 마지막 하트비트(confirmed)까지 따라왔으면 0, 아니면 현재 시각 - 복제본 하트비트
+     * (둘 중 하나라도 없으면 측정 불가 → Long.MAX_VALUE)
+     */
+    static long lag(long now, Long confirmed, Long replicaBeat) {
+        if (confirmed == null || replicaBeat == null) return Long.MAX_VALUE;
+        if (replicaBeat >= confirmed) return 0;
+        return Math.max(0, now - replicaBeat);
+    }
+
+    private static Long readBeat(JdbcTemplate jdbc) {
+        List<Long> beats = jdbc.queryForList("SELECT beat_millis FROM replica_heartbeat WHERE id = 1", Long.class);
+        return beats.isEmpty() ? null : beats.get(0);
+    }
+
+    /**
+     * 가장 뒤처진 복제본의 마지막 측정 지연 (응답 없거나 측정 전이면 Long.MAX_VALUE)
+     * - 대량 DELETE 같은 쓰기 작업이 복제 지연을 키우지 않도록 속도 조절에 사용
+     */
+    public long maxReplicaLagMillis() {
+        long max = 0;
+        for (Replica replica : replicas) {
+            max = Math.max(max, replica.lagMillis);
+        }
+        return max;
+    }
+
+    private void beat(long now) {
+        int updated = primaryJdbc.update("UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1", now);
+        if (updated == 0) {
+            try {
+                primaryJdbc.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)", now);
+            } catch (DuplicateKeyException ignored) {
+                // 다른 노드가 먼저 만듦
+            }
+        }
+    }
+
+    /**
+     * 복제본 커넥션 풀 정리 (@Bean destroy 메서드로 자동 호출)
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 커넥션 풀 종료 실패: name={}", replica.name(), e);
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbc;
+        private volatile boolean healthy;
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.jdbc.setQueryTimeout(1);
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        JdbcTemplate jdbc() {
+            return jdbc;
+        }
+    }
+}
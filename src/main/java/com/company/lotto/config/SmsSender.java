@@ -0,0 +1,10 @@
+package com.company.lotto.config;
+
+public interface SmsSender {
+
+    /**
+     * SMS 1건 발송
+     * - 실패 시 RuntimeException (호출 측에서 재시도)
+     */
+    void send(String phoneNumber, String text);
+}
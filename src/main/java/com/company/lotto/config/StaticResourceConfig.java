@@ -0,0 +1,41 @@
+package com.company.lotto.config;
+
+import java.time.Duration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * 정적 리소스 캐싱 / 압축
+ *
+ * - /css, /js : 내용 해시가 붙은 경로(lotto-{md5}.js)로만 링크 → 1년 + immutable 캐시 (내용이 바뀌면 경로가 바뀜)
+ *               빌드 시 만든 .br / .gz 파일이 있으면 Accept-Encoding에 맞춰 그대로 응답 (요청마다 압축하지 않음)
+ * - *.html    : 링크만 해시 경로로 치환해서 응답, no-cache (매번 Last-Modified로 재검증 → 바뀌지 않았으면 304)
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        addVersionedAssets(registry, "css");
+        addVersionedAssets(registry, "js");
+
+        registry.addResourceHandler("/*.html")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addTransformer(new HtmlLinkResourceTransformer());
+    }
+
+    private void addVersionedAssets(ResourceHandlerRegistry registry, String dir) {
+        registry.addResourceHandler("/" + dir + "/**")
+                .addResourceLocations("classpath:/static/" + dir + "/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.lotto.config;
+
+public interface WaitingRoom {
+
+    /**
+     * 이벤트 대기열 입장 - 순번(seq)이 담긴 새 토큰 발급
+     *
+     * @param admitPerSecond 초당 입장 인원
+     * @param burst          한가할 때 대기 없이 바로 들여보낼 수 있는 인원
+     */
+    QueueTicket enter(Long eventId, double admitPerSecond, int burst);
+
+    /**
+     * 토큰의 현재 순번 / 입장 커서 조회
+     *
+     * @return 없거나 만료된 토큰이면 null
+     */
+    QueueTicket status(String token, double admitPerSecond, int burst);
+
+    /**
+     * 토큰을 전화번호 식별값에 묶음 (처음 사용하는 번호로 고정)
+     *
+     * @return 묶이지 않았던 토큰이거나 이미 같은 번호에 묶여 있으면 true, 다른 번호에 묶여 있거나 없는 토큰이면 false
+     */
+    boolean bind(String token, String phoneKey);
+
+    /**
+     * 토큰 사용 완료 - phoneKey에 묶인 토큰이면 삭제 (이후 같은 토큰으로는 입장 불가)
+     */
+    void consume(String token, String phoneKey);
+}
@@ -0,0 +1,100 @@
+package com.company.lotto.config;
+
+import com.company.lotto.dto.queue.QueueStatusResponse;
+import com.company.lotto.service.VerificationService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 오픈 대기열 (입장 제어)
+ *
+ * - 참가 페이지 진입 시 토큰 발급 → 클라이언트는 입장할 때까지 GET /api/queue/{token} 폴링
+ * - 초당 admit-per-second명씩 입장 (참가 처리량 측정값에 맞춰 설정), 한가할 때는 burst명까지 바로 입장
+ * - 인증번호 발송 / 참가 요청은 입장한 토큰(X-Queue-Token)이 있어야 처리 → 넘치는 요청은 DB까지 가지 않고 429
+ * - 토큰은 처음 사용한 전화번호에 묶여 다른 번호로는 쓸 수 없고, 참가가 끝나면 삭제 (토큰 1개 = 참가 1건)
+ * - 기본 꺼짐 (켜면 클라이언트가 X-Queue-Token을 보내야 함)
+ */
+@Component
+public class WaitingRoomGuard {
+
+    public static final String TOKEN_HEADER = "X-Queue-Token";
+
+    // 폴링 간격 범위
+    private static final long MIN_RETRY_MS = 1_000;
+    private static final long MAX_RETRY_MS = 10_000;
+
+    private final WaitingRoom waitingRoom;
+    private final VerificationService verificationService;
+
+    private final boolean enabled;
+    private final double admitPerSecond;
+    private final int burst;
+
+    public WaitingRoomGuard(
+            WaitingRoom waitingRoom,
+            VerificationService verificationService,
+            @Value("${queue.enabled:false}") boolean enabled,
+            @Value("${queue.admit-per-second:50}") double admitPerSecond,
+            @Value("${queue.burst:50}") int burst) {
+        if (admitPerSecond <= 0) {
+            throw new IllegalArgumentException("queue.admit-per-second는 0보다 커야 합니다.");
+        }
+        this.waitingRoom = waitingRoom;
+        this.verificationService = verificationService;
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.burst = burst;
+    }
+
+    /**
+     * 대기열 입장 (비활성화 상태면 토큰 없이 바로 입장)
+     */
+    public QueueStatusResponse enter(Long eventId) {
+        if (!enabled) return new QueueStatusResponse(null, eventId, true, 0, 0);
+        return toResponse(waitingRoom.enter(eventId, admitPerSecond, burst));
+    }
+
+    /**
+     * 토큰 상태 조회 (없거나 만료된 토큰이면 null)
+     */
+    public QueueStatusResponse status(String token) {
+        QueueTicket ticket = waitingRoom.status(token, admitPerSecond, burst);
+        return ticket == null ? null : toResponse(ticket);
+    }
+
+    /**
+     * eventId 대기열에서 입장한 토큰인지 + phoneNumber에 묶인(처음 쓰면 묶음) 토큰인지 검사
+     */
+    public void check(Long eventId, String phoneNumber, HttpServletRequest request) {
+        if (!enabled) return;
+
+        String token = request.getHeader(TOKEN_HEADER);
+        QueueTicket ticket = token == null || token.isBlank() ? null : waitingRoom.status(token, admitPerSecond, burst);
+        if (ticket == null || !ticket.eventId().equals(eventId) || !ticket.admitted()
+                || !waitingRoom.bind(token, verificationService.hashPhone(phoneNumber))) {
+            throw LottoException.of(ErrorCode.QUEUE_NOT_ADMITTED);
+        }
+    }
+
+    /**
+     * 참가 완료 - 토큰 사용 완료 처리 (같은 토큰으로 다시 입장 불가)
+     */
+    public void consume(String phoneNumber, HttpServletRequest request) {
+        if (!enabled) return;
+
+        String token = request.getHeader(TOKEN_HEADER);
+        if (token == null || token.isBlank()) return;
+        waitingRoom.consume(token, verificationService.hashPhone(phoneNumber));
+    }
+
+    private QueueStatusResponse toResponse(QueueTicket ticket) {
+        if (ticket.admitted()) {
+            return new QueueStatusResponse(ticket.token(), ticket.eventId(), true, 0, 0);
+        }
+        // 내 차례까지 남은 예상 시간의 절반 (1~10초) → 순서가 가까울수록 자주 조회
+        long expectedMs = (long) ((ticket.ahead() + 1) * 1000 / admitPerSecond);
+        long retryAfterMs = Math.min(Math.max(expectedMs / 2, MIN_RETRY_MS), MAX_RETRY_MS);
+        return new QueueStatusResponse(ticket.token(), ticket.eventId(), false, ticket.ahead(), retryAfterMs);
+    }
+}
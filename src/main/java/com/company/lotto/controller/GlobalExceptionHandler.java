@@ -1,5 +1,7 @@
 package com.company.lotto.controller;
 
+import com.company.lotto.config.LottoException;
+import com.company.lotto.dto.common.ApiResponse;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
@@ -30,6 +32,16 @@ public class GlobalExceptionHandler {
                 .body(Map.of("error", e.getMessage()));
     }
 
+    /**
+     * 예상된 거절 (인증 미완료, 이벤트 종료, 중복 참가, 요청 한도 초과 등)
+     * - 로그 없이 code + message만 응답 (기존 클라이언트는 error 필드를 그대로 사용)
+     */
+    @ExceptionHandler(LottoException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLottoException(LottoException e) {
+        return ResponseEntity.status(e.getCode().getStatus())
+                .body(ApiResponse.error(e.getCode().name(), e.getMessage()));
+    }
+
     @ExceptionHandler(DuplicateKeyException.class)
     public ResponseEntity<Map<String, String>> handleDuplicateKey(DuplicateKeyException e) {
         log.warn("중복 키 충돌: {}", e.getMessage());
@@ -1,41 +1,98 @@
 package com.company.lotto.controller;
 
+import com.company.lotto.config.RateLimitGuard;
+import com.company.lotto.config.WaitingRoomGuard;
 import com.company.lotto.domain.Event;
+import com.company.lotto.domain.ParticipantImport;
+import com.company.lotto.domain.PoolCompaction;
+import com.company.lotto.domain.PoolGeneration;
 import com.company.lotto.dto.event.ActiveEventResponse;
 import com.company.lotto.dto.lotto.CheckResultRequest;
 import com.company.lotto.dto.event.CreateEventRequest;
 import com.company.lotto.dto.event.CreateEventResponse;
 import com.company.lotto.dto.event.EventDetailResponse;
 import com.company.lotto.dto.event.GetEventsResponse;
+import com.company.lotto.dto.lotto.ParticipantFilterResponse;
 import com.company.lotto.dto.lotto.ParticipateRequest;
 import com.company.lotto.dto.lotto.ParticipateResponse;
 import com.company.lotto.dto.lotto.ResultResponse;
+import com.company.lotto.dto.lotto.TicketAuditResponse;
+import com.company.lotto.dto.queue.QueueEnterRequest;
+import com.company.lotto.dto.queue.QueueStatusResponse;
 import com.company.lotto.dto.verification.VerificationCodeRequest;
 import com.company.lotto.dto.verification.VerificationRequest;
 import com.company.lotto.service.EventService;
+import com.company.lotto.service.EventWarmupService;
 import com.company.lotto.service.LottoService;
+import com.company.lotto.service.ParticipantFilter;
+import com.company.lotto.service.ParticipateBatcher;
+import com.company.lotto.service.ParticipantImportService;
+import com.company.lotto.service.PoolCompactionService;
+import com.company.lotto.service.TicketAuditService;
 import com.company.lotto.service.VerificationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/api")
-@RequiredArgsConstructor
 public class LottoController {
 
     private final EventService eventService;
     private final VerificationService verificationService;
     private final LottoService lottoService;
+    private final ParticipateBatcher participateBatcher;
+    private final ParticipantImportService participantImportService;
+    private final RateLimitGuard rateLimitGuard;
+    private final WaitingRoomGuard waitingRoomGuard;
+    private final EventWarmupService eventWarmupService;
+    private final TicketAuditService ticketAuditService;
+    private final PoolCompactionService poolCompactionService;
+    private final ParticipantFilter participantFilter;
+
+    // 이벤트 상세 응답 브라우저 캐시 시간 (상태 전환이 늦게 보이는 최대 시간)
+    private final Duration eventDetailMaxAge;
+
+    public LottoController(
+            EventService eventService,
+            VerificationService verificationService,
+            LottoService lottoService,
+            ParticipateBatcher participateBatcher,
+            ParticipantImportService participantImportService,
+            RateLimitGuard rateLimitGuard,
+            WaitingRoomGuard waitingRoomGuard,
+            EventWarmupService eventWarmupService,
+            TicketAuditService ticketAuditService,
+            PoolCompactionService poolCompactionService,
+            ParticipantFilter participantFilter,
+            @Value("${http-cache.event-detail-max-age-seconds:5}") long eventDetailMaxAgeSeconds) {
+        this.eventService = eventService;
+        this.verificationService = verificationService;
+        this.lottoService = lottoService;
+        this.participateBatcher = participateBatcher;
+        this.participantImportService = participantImportService;
+        this.rateLimitGuard = rateLimitGuard;
+        this.waitingRoomGuard = waitingRoomGuard;
+        this.eventWarmupService = eventWarmupService;
+        this.ticketAuditService = ticketAuditService;
+        this.poolCompactionService = poolCompactionService;
+        this.participantFilter = participantFilter;
+        this.eventDetailMaxAge = Duration.ofSeconds(eventDetailMaxAgeSeconds);
+    }
 
     @GetMapping("/events")
     public ResponseEntity<GetEventsResponse> getEvents(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ) {
-        return ResponseEntity.ok(eventService.getEvents(page, size));
+        return ResponseEntity.ok(eventService.getEvents(page, size, cursor));
     }
 
     @PostMapping("/events")
@@ -49,17 +106,63 @@ public class LottoController {
         return ResponseEntity.ok(event == null ? ActiveEventResponse.inactive() : ActiveEventResponse.of(event));
     }
 
+    /**
+     * 이벤트 상세 - 참가/결과 페이지가 열릴 때마다 호출
+     * - 짧은 max-age 동안은 브라우저 캐시, 이후에는 If-None-Match 재검증 → 바뀌지 않았으면 304 (본문 없음)
+     */
     @GetMapping("/events/{eventId}")
     public ResponseEntity<?> getEvent(@PathVariable Long eventId) {
         EventDetailResponse response = eventService.getEvent(eventId);
         if (response == null) return ResponseEntity.notFound().build();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(eventDetailMaxAge).cachePublic())
+                .eTag(response.getEtag())
+                .body(response);
     }
 
     @PostMapping("/events/{eventId}/generate-pool")
-    public ResponseEntity<Map<String, Object>> generatePool(@PathVariable Long eventId) {
-        eventService.generatePool(eventId);
-        return ResponseEntity.ok(Map.of("message", "로또 번호 풀 생성 완료", "eventId", eventId));
+    public ResponseEntity<PoolGeneration> generatePool(@PathVariable Long eventId) {
+        return ResponseEntity.accepted().body(eventService.generatePool(eventId));
+    }
+
+    @GetMapping("/events/{eventId}/pool-status")
+    public ResponseEntity<PoolGeneration> getPoolStatus(@PathVariable Long eventId) {
+        PoolGeneration job = eventService.getPoolStatus(eventId);
+        if (job == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(job);
+    }
+
+    @GetMapping("/events/{eventId}/pool-compaction")
+    public ResponseEntity<PoolCompaction> getPoolCompaction(@PathVariable Long eventId) {
+        PoolCompaction compaction = poolCompactionService.getStatus(eventId);
+        if (compaction == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(compaction);
+    }
+
+    @GetMapping("/events/{eventId}/participant-filter")
+    public ResponseEntity<ParticipantFilterResponse> getParticipantFilter(@PathVariable Long eventId) {
+        return ResponseEntity.ok(participantFilter.getStatus(eventId));
+    }
+
+    @PostMapping("/events/{eventId}/audit")
+    public ResponseEntity<TicketAuditResponse> auditTickets(@PathVariable Long eventId) {
+        return ResponseEntity.ok(ticketAuditService.audit(eventId));
+    }
+
+    @PostMapping("/events/{eventId}/participants/import")
+    public ResponseEntity<ParticipantImport> importParticipants(
+            @PathVariable Long eventId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long importId
+    ) {
+        return ResponseEntity.ok(participantImportService.startImport(eventId, importId, file));
+    }
+
+    @GetMapping("/events/{eventId}/participants/import/{importId}")
+    public ResponseEntity<ParticipantImport> getImport(@PathVariable Long eventId, @PathVariable Long importId) {
+        ParticipantImport job = participantImportService.getImport(eventId, importId);
+        if (job == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(job);
     }
 
     @GetMapping("/events/announcing")
@@ -67,34 +170,66 @@ public class LottoController {
         return ResponseEntity.ok(eventService.getAnnouncingEvent());
     }
 
+    @PostMapping("/queue")
+    public ResponseEntity<QueueStatusResponse> enterQueue(@Valid @RequestBody QueueEnterRequest request,
+                                                          HttpServletRequest httpRequest) {
+        rateLimitGuard.check("queue", httpRequest);
+        return ResponseEntity.ok(waitingRoomGuard.enter(request.getEventId()));
+    }
+
+    @GetMapping("/queue/{token}")
+    public ResponseEntity<QueueStatusResponse> getQueueStatus(@PathVariable String token) {
+        QueueStatusResponse response = waitingRoomGuard.status(token);
+        if (response == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/verification/send")
-    public ResponseEntity<?> sendVerification(@Valid @RequestBody VerificationRequest request) {
+    public ResponseEntity<?> sendVerification(@Valid @RequestBody VerificationRequest request,
+                                              HttpServletRequest httpRequest) {
+        rateLimitGuard.check("send", request.getPhoneNumber(), httpRequest);
+        waitingRoomGuard.check(request.getEventId(), request.getPhoneNumber(), httpRequest);
         return ResponseEntity.ok(verificationService.sendCode(request.getPhoneNumber(), request.getEventId()));
     }
 
     @PostMapping("/verification/verify")
-    public ResponseEntity<?> verifyCode(@Valid @RequestBody VerificationCodeRequest request) {
+    public ResponseEntity<?> verifyCode(@Valid @RequestBody VerificationCodeRequest request,
+                                        HttpServletRequest httpRequest) {
+        rateLimitGuard.check("verify", httpRequest);
         boolean verified = verificationService.verifyCode(request.getVerificationId(), request.getCode());
         if (verified) return ResponseEntity.ok(Map.of("verified", true));
         return ResponseEntity.badRequest().body(Map.of("verified", false, "error", "인증번호가 일치하지 않거나 만료되었습니다."));
     }
 
     @PostMapping("/lotto/participate")
-    public ResponseEntity<ParticipateResponse> participate(@Valid @RequestBody ParticipateRequest request) {
-        ParticipateResponse response = lottoService.participate(
+    public ResponseEntity<ParticipateResponse> participate(@Valid @RequestBody ParticipateRequest request,
+                                                           HttpServletRequest httpRequest) {
+        rateLimitGuard.check("participate", request.getPhoneNumber(), httpRequest);
+        waitingRoomGuard.check(request.getEventId(), request.getPhoneNumber(), httpRequest);
+        ParticipateResponse response = participateBatcher.participate(
                 request.getPhoneNumber(),
                 request.getEventId(),
                 request.getVerificationId()
         );
+        waitingRoomGuard.consume(request.getPhoneNumber(), httpRequest);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/lotto/result")
-    public ResponseEntity<ResultResponse> checkResult(@Valid @RequestBody CheckResultRequest request) {
+    public ResponseEntity<ResultResponse> checkResult(@Valid @RequestBody CheckResultRequest request,
+                                                      HttpServletRequest httpRequest) {
+        rateLimitGuard.check("result", request.getPhoneNumber(), httpRequest);
         ResultResponse response = lottoService.checkResult(
                 request.getPhoneNumber(),
                 request.getEventId()
         );
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/health/readiness")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        boolean ready = eventWarmupService.isReady();
+        Map<String, Object> body = Map.of("ready", ready, "events", eventWarmupService.getStates());
+        return ready ? ResponseEntity.ok(body) : ResponseEntity.status(503).body(body);
+    }
 }
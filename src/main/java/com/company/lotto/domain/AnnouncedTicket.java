@@ -0,0 +1,18 @@
+package com.company.lotto.domain;
+
+import com.company.lotto.domain.NumberPool.PoolResult;
+
+/**
+ * 발표 중 이벤트 결과 읽기 모델 적재용 1행 (참가자 + 티켓 + 조회 이력 여부)
+ *
+ * @param participantId 참가자 ID
+ * @param phoneHash     phone_hash (HMAC 모드 참가자는 null)
+ * @param phoneHmac     phone_hmac (LEGACY 모드 참가자는 null)
+ * @param phoneLast4    전화번호 뒷자리
+ * @param numbers       티켓 번호
+ * @param result        티켓 결과
+ * @param viewed        결과 조회 이력 존재 여부
+ */
+public record AnnouncedTicket(Long participantId, String phoneHash, byte[] phoneHmac, String phoneLast4,
+                              LottoNumbers numbers, PoolResult result, boolean viewed) {
+}
@@ -1,5 +1,6 @@
 package com.company.lotto.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,6 +18,10 @@ public class Event {
     private EventStatus status;
     private String winnerPhoneHash;
 
+    // 목록 조회(findAllPaged)에서만 채워지는 정렬 버킷 - 커서 생성용
+    @JsonIgnore
+    private Integer sortPriority;
+
     public enum EventStatus {
         READY,      // 준비중
         ACTIVE,     // 진행중
@@ -0,0 +1,51 @@
+package com.company.lotto.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로또 번호 6개 (1~45) 를 비트마스크 하나로 표현
+ *
+ * - 번호 n → (n - 1)번 비트, 45비트 안에 들어가므로 BIGINT 컬럼 하나(numbers_mask)로 저장
+ * - 중복 없는 정렬된 집합이라 별도 정렬/중복 체크가 필요 없음
+ * - 일치 개수 = Long.bitCount(a & b)
+ */
+public record LottoNumbers(long mask) {
+
+    public static final int MAX_NUMBER = 45;
+    public static final int SIZE = 6;
+
+    public LottoNumbers {
+        if (Long.bitCount(mask) != SIZE || (mask >>> MAX_NUMBER) != 0) {
+            throw new IllegalArgumentException("로또 번호는 1~45 중 서로 다른 6개여야 합니다.");
+        }
+    }
+
+    public static LottoNumbers of(List<Integer> numbers) {
+        long mask = 0;
+        for (int number : numbers) {
+            if (number < 1 || number > MAX_NUMBER) {
+                throw new IllegalArgumentException("로또 번호는 1~45 중 서로 다른 6개여야 합니다.");
+            }
+            mask |= 1L << (number - 1);
+        }
+        return new LottoNumbers(mask);
+    }
+
+    /**
+     * 오름차순 번호 목록 (응답용)
+     */
+    public List<Integer> toList() {
+        List<Integer> numbers = new ArrayList<>(SIZE);
+        long remaining = mask;
+        while (remaining != 0) {
+            numbers.add(Long.numberOfTrailingZeros(remaining) + 1);
+            remaining &= remaining - 1;
+        }
+        return numbers;
+    }
+
+    public int matchCount(LottoNumbers other) {
+        return Long.bitCount(mask & other.mask);
+    }
+}
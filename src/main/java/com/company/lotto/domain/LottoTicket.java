@@ -11,12 +11,7 @@ public class LottoTicket {
 
     private Long ticketId;
     private Long participantId;
-    private Integer num1;
-    private Integer num2;
-    private Integer num3;
-    private Integer num4;
-    private Integer num5;
-    private Integer num6;
+    private LottoNumbers numbers;
     private PoolResult result;
     private LocalDateTime issuedAt;
 }
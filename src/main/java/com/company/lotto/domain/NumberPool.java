@@ -8,12 +8,7 @@ import lombok.Setter;
 public class NumberPool {
 
     private Long poolId;
-    private Integer slot1;
-    private Integer slot2;
-    private Integer slot3;
-    private Integer slot4;
-    private Integer slot5;
-    private Integer slot6;
+    private LottoNumbers numbers;
     private PoolResult result;
     private Integer isUsed;
     private Long eventId;
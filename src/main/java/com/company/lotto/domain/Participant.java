@@ -11,6 +11,7 @@ public class Participant {
     private Long participantId;
     private Long eventId;
     private String phoneHash;
+    private byte[] phoneHmac;
     private String phoneEncrypted;
     private String phoneLast4;
     private Integer ticketSeq;
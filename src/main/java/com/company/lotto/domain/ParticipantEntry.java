@@ -0,0 +1,32 @@
+package com.company.lotto.domain;
+
+import com.company.lotto.domain.NumberPool.PoolResult;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 1건 기준 참가자 + 티켓 + 결과 조회 이력 (한 번의 JOIN 조회 결과)
+ * - event 기준 LEFT JOIN이라 이벤트만 있으면 행이 있고, 참가/티켓/조회 이력이 없으면 해당 값이 null
+ *
+ * @param eventId         이벤트 ID (항상 있음)
+ * @param announceStartAt 이벤트 발표 시작 시각
+ * @param announceEndAt   이벤트 발표 종료 시각
+ * @param participantId   참가자 ID (참가 이력 없으면 null)
+ * @param phoneHmac       phone_hash로 찾은 경우만 채움 (DUAL 모드 백필 여부 판단)
+ * @param phoneEncrypted  phone_hmac으로 찾은 경우만 채움 (16바이트 HMAC 충돌 확인)
+ * @param phoneLast4      응답용 전화번호 뒷자리
+ * @param numbers         티켓 번호 (티켓 없으면 null)
+ * @param result          티켓 결과 (티켓 없으면 null)
+ * @param viewCount       결과 조회 수 (조회 이력 없으면 null)
+ */
+public record ParticipantEntry(Long eventId, LocalDateTime announceStartAt, LocalDateTime announceEndAt,
+                               Long participantId, byte[] phoneHmac, String phoneEncrypted, String phoneLast4,
+                               LottoNumbers numbers, PoolResult result, Integer viewCount) {
+
+    public boolean participated() {
+        return participantId != null;
+    }
+
+    public boolean hasTicket() {
+        return result != null;
+    }
+}
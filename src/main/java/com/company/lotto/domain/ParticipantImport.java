@@ -0,0 +1,27 @@
+package com.company.lotto.domain;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ParticipantImport {
+
+    private Long importId;
+    private Long eventId;
+    private String fileName;
+    private ImportStatus status;
+    private Long processedLines;
+    private Long importedRows;
+    private Long skippedRows;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public enum ImportStatus {
+        RUNNING,    // 진행중
+        COMPLETED,  // 완료
+        FAILED      // 실패 (processed_lines 이후부터 재개 가능)
+    }
+}
@@ -0,0 +1,15 @@
+package com.company.lotto.domain;
+
+import com.company.lotto.domain.SmsLog.SmsType;
+
+/**
+ * 회수 대상 SMS 1건 (REQUESTED로 오래 남은 sms_log + 참가자 암호화 전화번호)
+ *
+ * @param smsId          sms_log ID
+ * @param participantId  참가자 ID
+ * @param type           발송 종류
+ * @param body           기록 시점의 발송 본문
+ * @param phoneEncrypted 참가자 암호화 전화번호 (발송 시 복호화)
+ */
+public record PendingSms(Long smsId, Long participantId, SmsType type, String body, String phoneEncrypted) {
+}
@@ -0,0 +1,24 @@
+package com.company.lotto.domain;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PoolCompaction {
+
+    private Long eventId;
+    private CompactionStatus status;
+    private Long deletedRows;
+    private Long reclaimedBytes;    // 추정치 (삭제 행 수 × 행당 크기, 파티션 DROP은 파일 단위로 반환)
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+
+    public enum CompactionStatus {
+        RUNNING,    // 진행중 (복제 지연 등으로 중단되면 다음 실행에서 이어서)
+        COMPLETED,  // 완료
+        FAILED      // 실패 (다음 실행에서 재시도)
+    }
+}
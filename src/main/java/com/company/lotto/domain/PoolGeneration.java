@@ -0,0 +1,26 @@
+package com.company.lotto.domain;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PoolGeneration {
+
+    private Long jobId;
+    private Long eventId;
+    private GenerationStatus status;
+    private Long seed;
+    private Integer totalSlots;
+    private Integer insertedSlots;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public enum GenerationStatus {
+        RUNNING,    // 진행중
+        COMPLETED,  // 완료
+        FAILED      // 실패 (inserted_slots 이후부터 재개 가능)
+    }
+}
@@ -0,0 +1,9 @@
+package com.company.lotto.domain;
+
+import com.company.lotto.domain.NumberPool.PoolResult;
+
+/**
+ * 배정용 번호 슬롯 (number_pool 랜덤 조회 전용 - is_used / event_id 제외)
+ */
+public record PoolSlot(Long poolId, LottoNumbers numbers, PoolResult result) {
+}
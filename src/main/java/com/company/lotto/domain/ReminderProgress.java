@@ -0,0 +1,21 @@
+package com.company.lotto.domain;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ReminderProgress {
+
+    private Long eventId;
+    private ReminderStatus status;
+    private Long lastParticipantId;
+    private Long sentCount;
+    private LocalDateTime updatedAt;
+
+    public enum ReminderStatus {
+        RUNNING,    // 발송중
+        COMPLETED   // 발송완료
+    }
+}
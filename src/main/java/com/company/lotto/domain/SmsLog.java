@@ -0,0 +1,29 @@
+package com.company.lotto.domain;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SmsLog {
+
+    private Long smsId;
+    private Long participantId;
+    private SmsType type;
+    private SmsStatus status;
+    private String body;            // 발송 본문 (회수 시 재발송용)
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public enum SmsType {
+        TICKET,     // 번호 발급 안내
+        REMINDER    // 결과 발표 안내
+    }
+
+    public enum SmsStatus {
+        REQUESTED,  // 발송 요청
+        SUCCESS,    // 발송 성공
+        FAILED      // 발송 실패
+    }
+}
@@ -3,17 +3,22 @@ package com.company.lotto.dto.common;
 public record ApiResponse<T>(
         boolean success,
         T data,
+        String code,
         String error
 ) {
     public static <T> ApiResponse<T> ok(T data) {
-        return new ApiResponse<>(true, data, null);
+        return new ApiResponse<>(true, data, null, null);
     }
 
     public static ApiResponse<Void> ok() {
-        return new ApiResponse<>(true, null, null);
+        return new ApiResponse<>(true, null, null, null);
     }
 
     public static ApiResponse<Void> error(String message) {
-        return new ApiResponse<>(false, null, message);
+        return new ApiResponse<>(false, null, null, message);
+    }
+
+    public static ApiResponse<Void> error(String code, String message) {
+        return new ApiResponse<>(false, null, code, message);
     }
 }
@@ -7,5 +7,6 @@ import lombok.Getter;
 @AllArgsConstructor
 public class CreateEventResponse {
     private Long eventId;
+    private Long poolJobId;
     private String message;
 }
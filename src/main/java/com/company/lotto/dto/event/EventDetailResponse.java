@@ -1,8 +1,10 @@
 package com.company.lotto.dto.event;
 
 import com.company.lotto.domain.Event;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -29,4 +31,13 @@ public class EventDetailResponse {
                 e.getAnnounceEndAt()
         );
     }
+
+    /**
+     * 응답 내용 기준 ETag (내용이 같으면 304로 본문 생략)
+     */
+    @JsonIgnore
+    public String getEtag() {
+        int hash = Objects.hash(eventId, name, status, startAt, endAt, announceStartAt, announceEndAt);
+        return "\"" + eventId + "-" + Integer.toHexString(hash) + "\"";
+    }
 }
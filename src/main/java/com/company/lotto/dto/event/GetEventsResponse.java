@@ -13,4 +13,5 @@ public class GetEventsResponse {
     private int size;
     private int total;
     private int totalPages;
+    private String nextCursor;
 }
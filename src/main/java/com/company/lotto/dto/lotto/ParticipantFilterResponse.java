@@ -0,0 +1,24 @@
+package com.company.lotto.dto.lotto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ParticipantFilterResponse {
+    private Long eventId;
+    private boolean enabled;
+    private boolean ready;                      // 적재 완료 (준비 비트)
+    private boolean target;                     // 이 노드에서 조회에 사용 중 (진행 중 / 발표 중 이벤트)
+    private long bits;                          // m
+    private int hashes;                         // k
+    private long bytes;                         // 비트맵 크기
+    private long expectedInsertions;            // 설정 n
+    private double targetFalsePositiveRate;     // 설정 p
+    private long setBits;                       // 켜진 비트 수
+    private long estimatedInsertions;           // 켜진 비트 비율로 추정한 적재 건수 (포화면 -1)
+    private double estimatedFalsePositiveRate;  // (켜진 비트 비율)^k
+    private long checks;                        // 필터 조회 수 (노드별 누적)
+    private long negatives;                     // 참가 이력 없음 확정 → DB 조회 생략 (노드별 누적)
+    private long unavailable;                   // 준비 전 / 저장소 오류로 DB 조회 (노드별 누적)
+}
@@ -0,0 +1,19 @@
+package com.company.lotto.dto.lotto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TicketAuditResponse {
+    private Long eventId;
+    private int scannedTickets;
+    private int mismatchCount;
+    private List<Mismatch> mismatches;  // 앞에서부터 최대 100건
+    private long elapsedMs;
+
+    public record Mismatch(Long ticketId, Long participantId, List<Integer> numbers,
+                           String storedResult, String expectedResult) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.lotto.dto.queue;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class QueueEnterRequest {
+    @NotNull(message = "eventId는 필수입니다.")
+    private Long eventId;
+}
@@ -0,0 +1,14 @@
+package com.company.lotto.dto.queue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QueueStatusResponse {
+    private String token;
+    private Long eventId;
+    private boolean admitted;
+    private long ahead;             // 내 앞에 남은 인원
+    private long retryAfterMs;      // 다음 조회까지 기다릴 시간 (입장했으면 0)
+}
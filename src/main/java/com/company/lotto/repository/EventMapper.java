@@ -1,6 +1,7 @@
 package com.company.lotto.repository;
 
 import com.company.lotto.domain.Event;
+import com.company.lotto.domain.LottoNumbers;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
@@ -15,8 +16,13 @@ public interface EventMapper {
     // 전체 이벤트 목록 조회
     List<Event> findAll();
 
-    // 페이징 + 상태 기반 정렬 조회
-    List<Event> findAllPaged(@Param("offset") int offset, @Param("limit") int limit, @Param("now") LocalDateTime now);
+    // 페이징 + 상태 기반 정렬 조회 (버킷별 UNION ALL, cursorBucket/cursorId가 있으면 키셋 페이징)
+    List<Event> findAllPaged(@Param("offset") int offset,
+                             @Param("limit") int limit,
+                             @Param("fetch") int fetch,
+                             @Param("cursorBucket") Integer cursorBucket,
+                             @Param("cursorId") Long cursorId,
+                             @Param("now") LocalDateTime now);
 
     // 전체 이벤트 개수 조회
     int countAll();
@@ -30,6 +36,21 @@ public interface EventMapper {
     // 당첨자 발표 중인 이벤트 조회 - 최근 1건
     Event findAnnouncingEvent(@Param("now") LocalDateTime now);
 
+    // 발표 기간에 들어선 이벤트 전체 조회 (발표 안내 발송용)
+    List<Event> findAnnouncementStarted(@Param("now") LocalDateTime now);
+
+    // 시작/종료/발표 시각 중 하나가 [from, to) 구간에 있는 이벤트 조회 (정시 전환 예약용)
+    List<Event> findBoundariesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 진행 중이거나 until 이전에 시작하는 READY/ACTIVE 이벤트 조회 (사전 워밍업 대상)
+    List<Event> findWarmupTargets(@Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 당첨 번호 조회 (풀 생성 전이면 null)
+    LottoNumbers findWinningNumbers(Long eventId);
+
+    // 당첨 번호 저장 (풀 생성 완료 시)
+    void updateWinningNumbers(@Param("eventId") Long eventId, @Param("numbers") LottoNumbers numbers);
+
     // 이벤트 상태 변경
     void updateStatus(Long eventId, String status);
 
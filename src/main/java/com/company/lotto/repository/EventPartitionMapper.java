@@ -0,0 +1,41 @@
+package com.company.lotto.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 이벤트별 LIST 파티션 관리 (MySQL 전용, storage.event-partitions.enabled=true 일 때만 사용)
+ * - table 은 서비스 상수(number_pool / participant)만 전달 - 요청 값을 넣지 않음
+ */
+@Mapper
+public interface EventPartitionMapper {
+
+    // 이벤트 파티션(p{eventId}) 존재 여부
+    boolean existsPartition(@Param("table") String table, @Param("eventId") Long eventId);
+
+    // 이벤트 파티션 추가 (이미 있으면 에러 1517)
+    void addPartition(@Param("table") String table, @Param("eventId") Long eventId);
+
+    // 파티션이 남아 있고 발표 종료 후 보관 기간이 지난 이벤트
+    List<Long> findArchivableEventIds(@Param("table") String table, @Param("before") LocalDateTime before);
+
+    // 보관 테이블({table}_archive_{eventId}) 생성 - 원본과 같은 구조 (파티션 정의까지 복사됨)
+    void createArchiveTable(@Param("table") String table, @Param("eventId") Long eventId);
+
+    // 보관 테이블이 아직 파티션 테이블인지
+    boolean isArchivePartitioned(@Param("table") String table, @Param("eventId") Long eventId);
+
+    // 보관 테이블 파티션 제거 (EXCHANGE 대상은 비파티션 테이블이어야 함)
+    void removeArchivePartitioning(@Param("table") String table, @Param("eventId") Long eventId);
+
+    // 보관 테이블에 이미 행이 있는지 (교환 완료 여부)
+    boolean archiveHasRows(@Param("table") String table, @Param("eventId") Long eventId);
+
+    // 파티션 <-> 보관 테이블 교환 (메타데이터 작업, 행 복사 없음)
+    void exchangePartition(@Param("table") String table, @Param("eventId") Long eventId);
+
+    // 파티션 삭제 (DELETE 없이 파일 단위로 정리)
+    void dropPartition(@Param("table") String table, @Param("eventId") Long eventId);
+}
@@ -0,0 +1,44 @@
+package com.company.lotto.repository;
+
+import com.company.lotto.domain.LottoNumbers;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * LottoNumbers <-> numbers_mask (BIGINT) 변환
+ * - mybatis.type-handlers-package 로 등록
+ */
+@MappedTypes(LottoNumbers.class)
+@MappedJdbcTypes(JdbcType.BIGINT)
+public class LottoNumbersTypeHandler extends BaseTypeHandler<LottoNumbers> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, LottoNumbers parameter, JdbcType jdbcType)
+            throws SQLException {
+        ps.setLong(i, parameter.mask());
+    }
+
+    @Override
+    public LottoNumbers getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        long mask = rs.getLong(columnName);
+        return rs.wasNull() ? null : new LottoNumbers(mask);
+    }
+
+    @Override
+    public LottoNumbers getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        long mask = rs.getLong(columnIndex);
+        return rs.wasNull() ? null : new LottoNumbers(mask);
+    }
+
+    @Override
+    public LottoNumbers getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        long mask = cs.getLong(columnIndex);
+        return cs.wasNull() ? null : new LottoNumbers(mask);
+    }
+}
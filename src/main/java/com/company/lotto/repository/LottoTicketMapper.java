@@ -1,6 +1,7 @@
 package com.company.lotto.repository;
 
 import com.company.lotto.domain.LottoTicket;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -10,6 +11,10 @@ public interface LottoTicketMapper {
     // 로또 번호 저장
     void insertTicket(LottoTicket ticket);
 
-    // 특정 참가자의 로또 번호 조회
-    LottoTicket findByParticipantId(@Param("participantId") Long participantId);
+    // 로또 번호 대량 저장 (일괄 등록 전용)
+    void batchInsert(List<LottoTicket> tickets);
+
+    // ticket_seq 구간의 티켓 조회 (당첨 등수 재검증용)
+    List<LottoTicket> findByTicketSeqRange(@Param("eventId") Long eventId, @Param("fromSeq") int fromSeq,
+                                           @Param("toSeq") int toSeq);
 }
@@ -1,6 +1,7 @@
 package com.company.lotto.repository;
 
 import com.company.lotto.domain.NumberPool;
+import com.company.lotto.domain.PoolSlot;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -14,9 +15,28 @@ public interface NumberPoolMapper {
     // 특정 이벤트의 번호 풀 총 개수 조회
     int countByEventId(Long eventId);
 
+    // 특정 이벤트의 미사용 슬롯 개수 조회
+    int countAvailableByEventId(Long eventId);
+
     // 사용 가능한 번호 슬롯 1개 랜덤 조회
-    NumberPool findRandomAvailableSlot(@Param("eventId") Long eventId, @Param("results") List<String> results);
+    PoolSlot findRandomAvailableSlot(@Param("eventId") Long eventId, @Param("results") List<String> results);
+
+    // 사용 가능한 번호 슬롯 1개 랜덤 조회 - 잠금 없음 (워밍업 전용)
+    PoolSlot peekRandomAvailableSlot(@Param("eventId") Long eventId, @Param("results") List<String> results);
 
     // 번호 풀 사용 처리
-    void markUsed(@Param("poolId") Long poolId);
+    void markUsed(@Param("eventId") Long eventId, @Param("poolId") Long poolId);
+
+    // 사용 가능한 번호 슬롯 N개 랜덤 조회 (일괄 등록 전용)
+    List<PoolSlot> findRandomAvailableSlots(@Param("eventId") Long eventId, @Param("results") List<String> results,
+                                            @Param("limit") int limit);
+
+    // 번호 풀 일괄 사용 처리
+    void markUsedBatch(@Param("eventId") Long eventId, @Param("poolIds") List<Long> poolIds);
+
+    // 정리 대상 슬롯 id (키셋 페이징)
+    List<Long> findPoolIdsAfter(@Param("eventId") Long eventId, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    // 슬롯 일괄 삭제 (ENDED 이벤트 정리)
+    int deleteByPoolIds(@Param("eventId") Long eventId, @Param("poolIds") List<Long> poolIds);
 }
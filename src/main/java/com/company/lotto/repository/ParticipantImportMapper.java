@@ -0,0 +1,35 @@
+package com.company.lotto.repository;
+
+import com.company.lotto.domain.ParticipantImport;
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ParticipantImportMapper {
+
+    // 일괄 등록 작업 생성
+    void insert(ParticipantImport participantImport);
+
+    // 일괄 등록 작업 단건 조회
+    ParticipantImport findById(Long importId);
+
+    // 청크 처리 결과 반영 (체크포인트 + heartbeat) - 체크포인트가 fromLines일 때만, 반영 행 수 반환
+    int updateProgress(@Param("importId") Long importId,
+                       @Param("fromLines") long fromLines,
+                       @Param("processedLines") long processedLines,
+                       @Param("importedRows") int importedRows,
+                       @Param("skippedRows") int skippedRows,
+                       @Param("now") LocalDateTime now);
+
+    // 실패 / 오래 멈춘 RUNNING 작업 인수 - 인수했으면 1
+    int takeOver(@Param("importId") Long importId,
+                 @Param("staleBefore") LocalDateTime staleBefore,
+                 @Param("now") LocalDateTime now);
+
+    // 작업 상태 변경
+    void updateStatus(@Param("importId") Long importId,
+                      @Param("status") String status,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("now") LocalDateTime now);
+}
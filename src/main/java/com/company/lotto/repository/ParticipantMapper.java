@@ -1,6 +1,9 @@
 package com.company.lotto.repository;
 
+import com.company.lotto.domain.AnnouncedTicket;
 import com.company.lotto.domain.Participant;
+import com.company.lotto.domain.ParticipantEntry;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -10,9 +13,39 @@ public interface ParticipantMapper {
     // 이벤트 참가자 등록
     void insertParticipant(Participant participant);
 
-    // 참가자 단건 조회 (중복 참여 체크)
-    Participant findByPhoneHashAndEventId(@Param("phoneHash") String phoneHash, @Param("eventId") Long eventId);
+    // 참가자 + 티켓 + 결과 조회 이력 조회 (중복 참여 체크 / 결과 조회, 이벤트가 없으면 null)
+    ParticipantEntry findEntryByPhoneHash(@Param("phoneHash") String phoneHash, @Param("eventId") Long eventId);
+
+    // 참가자 + 티켓 + 결과 조회 이력 조회 (phone_hmac 기준)
+    ParticipantEntry findEntryByPhoneHmac(@Param("phoneHmac") byte[] phoneHmac, @Param("eventId") Long eventId);
+
+    // 기존(phone_hash만 있는) 참가자에 phone_hmac 채우기 - DUAL 모드 마이그레이션
+    void updatePhoneHmac(@Param("eventId") Long eventId, @Param("participantId") Long participantId,
+                         @Param("phoneHmac") byte[] phoneHmac);
 
     // 다음 티켓 순번 계산
     int selectNextTicketSeq(Long eventId);
+
+    // 참가자 대량 등록 (일괄 등록 전용)
+    void batchInsert(List<Participant> participants);
+
+    // 이미 참가한 phone_hash / phone_hmac 목록 조회 (일괄 등록 중복 제외용)
+    List<String> findExistingPhoneHashes(@Param("eventId") Long eventId, @Param("phoneHashes") List<String> phoneHashes);
+    List<byte[]> findExistingPhoneHmacs(@Param("eventId") Long eventId, @Param("phoneHmacs") List<byte[]> phoneHmacs);
+
+    // 결과 발표 안내 대상 조회 - participant_id 키셋 페이징, 이미 REMINDER 발송 이력이 있으면 제외
+    List<Participant> findReminderTargets(@Param("eventId") Long eventId, @Param("afterId") long afterId,
+                                          @Param("limit") int limit);
+
+    // ticket_seq 구간의 참가자 ID 조회 (대량 등록 후 티켓 연결용)
+    List<Participant> findByTicketSeqRange(@Param("eventId") Long eventId, @Param("fromSeq") int fromSeq,
+                                           @Param("toSeq") int toSeq);
+
+    // 참가자 필터 적재 (participant_id, phone_hash, phone_hmac) - participant_id 키셋 페이징
+    List<Participant> findPhoneKeysAfter(@Param("eventId") Long eventId, @Param("afterId") long afterId,
+                                         @Param("limit") int limit);
+
+    // 발표 중 이벤트 결과 읽기 모델 적재 - participant_id 키셋 페이징
+    List<AnnouncedTicket> findAnnouncedTickets(@Param("eventId") Long eventId, @Param("afterId") long afterId,
+                                               @Param("limit") int limit);
 }
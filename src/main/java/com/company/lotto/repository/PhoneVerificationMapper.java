@@ -2,6 +2,7 @@ package com.company.lotto.repository;
 
 import com.company.lotto.domain.PhoneVerification;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -17,4 +18,18 @@ public interface PhoneVerificationMapper {
     // 인증 상태 업데이트
     void updateStatus(@Param("verificationId") Long verificationId, @Param("status") String status,
                       @Param("verifiedAt") LocalDateTime verifiedAt);
+
+    // 만료 대상(REQUESTED + expired_at 경과) ID 조회 - 키셋 페이징
+    List<Long> findExpiredIds(@Param("afterId") long afterId, @Param("now") LocalDateTime now,
+                              @Param("limit") int limit);
+
+    // 지정한 ID들을 EXPIRED로 변경 (스위퍼 전용)
+    int expireByIds(@Param("ids") List<Long> ids);
+
+    // 보관 기간이 지난 인증 이력 ID 조회 - 오래된 순 (처리한 행은 삭제되므로 커서 없음)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 보관 테이블로 복사 후 원본 삭제 (스위퍼 전용)
+    int copyToArchive(@Param("ids") List<Long> ids);
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
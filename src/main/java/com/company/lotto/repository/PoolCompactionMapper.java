@@ -0,0 +1,32 @@
+package com.company.lotto.repository;
+
+import com.company.lotto.domain.PoolCompaction;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface PoolCompactionMapper {
+
+    // 정리 대상 - ENDED 이벤트 중 정리가 끝나지 않은 것
+    List<Long> findDueEventIds(@Param("limit") int limit);
+
+    // 이벤트의 정리 상태 조회
+    PoolCompaction findByEventId(Long eventId);
+
+    // 정리 시작 기록 (이벤트당 1개, 이미 있으면 DuplicateKeyException)
+    void insert(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+
+    // 청크 삭제 결과 누적
+    void addDeleted(@Param("eventId") Long eventId,
+                    @Param("deletedRows") long deletedRows,
+                    @Param("reclaimedBytes") long reclaimedBytes,
+                    @Param("now") LocalDateTime now);
+
+    // 상태 변경
+    void updateStatus(@Param("eventId") Long eventId,
+                      @Param("status") String status,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,32 @@
+package com.company.lotto.repository;
+
+import com.company.lotto.domain.PoolGeneration;
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface PoolGenerationMapper {
+
+    // 번호 풀 생성 작업 생성 (이벤트당 1개, 중복 시 DuplicateKeyException)
+    void insert(PoolGeneration poolGeneration);
+
+    // 이벤트의 번호 풀 생성 작업 조회
+    PoolGeneration findByEventId(Long eventId);
+
+    // FAILED 이거나 오래 갱신되지 않은 RUNNING 작업 인수 (1이면 선점 성공)
+    int takeOver(@Param("jobId") Long jobId,
+                 @Param("staleBefore") LocalDateTime staleBefore,
+                 @Param("now") LocalDateTime now);
+
+    // 청크 INSERT 결과 반영 (체크포인트 + heartbeat)
+    void updateProgress(@Param("jobId") Long jobId,
+                        @Param("insertedSlots") int insertedSlots,
+                        @Param("now") LocalDateTime now);
+
+    // 작업 상태 변경
+    void updateStatus(@Param("jobId") Long jobId,
+                      @Param("status") String status,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.company.lotto.repository;
+
+import com.company.lotto.domain.ReminderProgress;
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ReminderProgressMapper {
+
+    // 발송 작업 선점 (이벤트당 1행, 이미 있으면 DuplicateKeyException)
+    void insert(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+
+    // 진행 상황 조회
+    ReminderProgress findByEventId(Long eventId);
+
+    // 일정 시간 이상 갱신되지 않은 RUNNING 작업 인수 (이전 실행 노드 장애 시)
+    int takeOver(@Param("eventId") Long eventId, @Param("staleBefore") LocalDateTime staleBefore,
+                 @Param("now") LocalDateTime now);
+
+    // 페이지 처리 결과 반영 (체크포인트)
+    void updateProgress(@Param("eventId") Long eventId, @Param("lastParticipantId") long lastParticipantId,
+                        @Param("sent") int sent, @Param("now") LocalDateTime now);
+
+    // 실행 중 표시 (큐 대기 중 updated_at만 갱신)
+    void heartbeat(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+
+    // 발송 완료
+    void complete(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+}
@@ -14,6 +14,9 @@ public interface ResultViewMapper {
     // 결과 최초 조회 기록 생성
     void insert(ResultView resultView);
 
+    // 결과 재조회 시 조회 수 증가
+    void incrementViewCount(@Param("participantId") Long participantId, @Param("lastViewAt") LocalDateTime lastViewAt);
+
     // 결과 조회 이력 UPSERT
     void upsertView(@Param("participantId") Long participantId, @Param("now") LocalDateTime now);
 }
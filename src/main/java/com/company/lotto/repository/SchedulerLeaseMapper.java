@@ -0,0 +1,19 @@
+package com.company.lotto.repository;
+
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SchedulerLeaseMapper {
+
+    // 리스 행 최초 생성 (이미 있으면 DuplicateKeyException)
+    void insert(@Param("name") String name, @Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 리스 획득/연장 - 내가 보유 중이거나 만료된 경우에만 1 반환
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+                   @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 리스 반납 (종료 시)
+    void release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,25 @@
+package com.company.lotto.repository;
+
+import com.company.lotto.domain.PendingSms;
+import com.company.lotto.domain.SmsLog;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SmsLogMapper {
+
+    // 발송 요청 이력 대량 생성 (생성된 sms_id를 각 SmsLog에 세팅)
+    void batchInsert(List<SmsLog> logs);
+
+    // staleBefore 이전부터 REQUESTED인 행 (회수 대상, 오래된 순)
+    List<PendingSms> findPending(@Param("staleBefore") LocalDateTime staleBefore, @Param("limit") int limit);
+
+    // 회수한 행의 requested_at 갱신 (다음 회수 전까지 다시 집지 않도록)
+    void touchRequested(@Param("smsIds") List<Long> smsIds, @Param("now") LocalDateTime now);
+
+    // 발송 결과 일괄 반영
+    void updateStatusBatch(@Param("smsIds") List<Long> smsIds, @Param("status") String status,
+                           @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,17 @@
+package com.company.lotto.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface TicketSequenceMapper {
+
+    // next_seq를 count만큼 증가 (행이 없으면 0 반환)
+    int increment(@Param("eventId") Long eventId, @Param("count") int count);
+
+    // 이벤트 행 생성 - 기존 참가자의 MAX(ticket_seq) + 1부터 (이미 있으면 DuplicateKeyException)
+    void insertFromMax(Long eventId);
+
+    // 현재 next_seq 조회 (increment와 같은 트랜잭션에서 호출 → 자기가 올린 값)
+    int findNextSeq(Long eventId);
+}
@@ -0,0 +1,113 @@
+package com.company.lotto.scheduler;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.scheduler.EventTransition.Type;
+import com.company.lotto.service.PoolCompactionService;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 경계 시각 정시 전환
+ *
+ * - 30초마다 앞으로 PLAN_HORIZON 안에 도달하는 start_at / end_at / announce_start_at / announce_end_at을 조회해서
+ *   해당 시각에 1회 실행되는 작업으로 예약 (TaskScheduler 내부 지연 큐)
+ * - 경계 시각에 바로 상태를 전환하고 EventTransition을 발행 → 최대 1분 늦던 오픈/종료가 정시에 처리됨
+ * - 리더 노드에서만 예약/실행, 리더를 잃으면 예약 취소
+ * - EventStatusScheduler의 1분 주기 갱신은 누락 대비 안전망으로 유지
+ */
+@Slf4j
+@Component
+public class EventBoundaryScheduler {
+
+    // 한 번에 예약할 구간 (조회 주기 30초보다 길어야 경계 누락 없음)
+    private static final Duration PLAN_HORIZON = Duration.ofMinutes(2);
+
+    private final EventMapper eventMapper;
+    private final LeaderLease leaderLease;
+    private final EventTransitionPublisher eventTransitionPublisher;
+    private final PoolCompactionService poolCompactionService;
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+
+    // 예약된 전환 (key: eventId:type:시각)
+    private final Map<String, ScheduledFuture<?>> planned = new ConcurrentHashMap<>();
+
+    public EventBoundaryScheduler(EventMapper eventMapper,
+                                  LeaderLease leaderLease,
+                                  EventTransitionPublisher eventTransitionPublisher,
+                                  PoolCompactionService poolCompactionService,
+                                  TaskScheduler taskScheduler,
+                                  Clock clock) {
+        this.eventMapper = eventMapper;
+        this.leaderLease = leaderLease;
+        this.eventTransitionPublisher = eventTransitionPublisher;
+        this.poolCompactionService = poolCompactionService;
+        this.taskScheduler = taskScheduler;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void planUpcoming() {
+        if (!leaderLease.isLeader()) {
+            cancelAll();
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime until = now.plus(PLAN_HORIZON);
+        for (Event event : eventMapper.findBoundariesBetween(now, until)) {
+            plan(event.getEventId(), Type.STARTED, event.getStartAt(), now, until);
+            plan(event.getEventId(), Type.PARTICIPATION_ENDED, event.getEndAt(), now, until);
+            plan(event.getEventId(), Type.ANNOUNCEMENT_STARTED, event.getAnnounceStartAt(), now, until);
+            // endActiveEvents는 announce_end_at < now 조건이므로 1초 뒤에 실행
+            if (event.getAnnounceEndAt() != null) {
+                plan(event.getEventId(), Type.ENDED, event.getAnnounceEndAt().plusSeconds(1), now, until);
+            }
+        }
+    }
+
+    private void plan(Long eventId, Type type, LocalDateTime at, LocalDateTime now, LocalDateTime until) {
+        if (at == null || at.isBefore(now) || !at.isBefore(until)) return;
+
+        String key = eventId + ":" + type + ":" + at;
+        planned.computeIfAbsent(key, k -> taskScheduler.schedule(
+                () -> fire(key, new EventTransition(eventId, type, at)),
+                at.atZone(clock.getZone()).toInstant()));
+    }
+
+    private void fire(String key, EventTransition transition) {
+        planned.remove(key);
+        if (!leaderLease.isLeader()) return;
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            int changed = switch (transition.type()) {
+                case STARTED -> eventMapper.activateReadyEvents(now);
+                case ENDED -> eventMapper.endActiveEvents(now);
+                case PARTICIPATION_ENDED, ANNOUNCEMENT_STARTED -> 0;
+            };
+            log.info("이벤트 정시 전환: {}, changed={}, now={}", transition, changed, now);
+            eventTransitionPublisher.publish(transition);
+            // 종료된 이벤트 번호 풀 정리 (백그라운드)
+            if (transition.type() == Type.ENDED && changed > 0) poolCompactionService.startDue();
+        } catch (Exception e) {
+            // 실패해도 EventStatusScheduler의 주기 갱신에서 다시 처리됨
+            log.error("이벤트 정시 전환 실패: {}", transition, e);
+        }
+    }
+
+    private void cancelAll() {
+        if (planned.isEmpty()) return;
+        planned.values().forEach(future -> future.cancel(false));
+        planned.clear();
+    }
+}
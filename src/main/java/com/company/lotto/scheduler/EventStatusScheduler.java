@@ -1,6 +1,9 @@
 package com.company.lotto.scheduler;
 
 import com.company.lotto.repository.EventMapper;
+import com.company.lotto.service.EventPartitionService;
+import com.company.lotto.service.PoolCompactionService;
+import com.company.lotto.service.ReminderFanoutService;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -15,16 +18,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class EventStatusScheduler {
 
     private final EventMapper eventMapper;
+    private final ReminderFanoutService reminderFanoutService;
+    private final EventPartitionService eventPartitionService;
+    private final PoolCompactionService poolCompactionService;
+    private final LeaderLease leaderLease;
     private final Clock clock;
 
     /**
-     * 1분마다 이벤트 상태 자동 갱신
+     * 1분마다 이벤트 상태 자동 갱신 (리더 노드만)
      * - READY -> ACTIVE
      * - ACTIVE -> ENDED
+     * - 정시 전환은 EventBoundaryScheduler가 담당, 여기서는 누락분만 보정
+     * - 커밋 후 ENDED 이벤트 번호 풀 정리 (이월된 정리도 여기서 이어서 진행)
      */
     @Transactional
     @Scheduled(fixedDelay = 60_000)
     public void refreshEventStatus() {
+        if (!leaderLease.isLeader()) return;
+
         LocalDateTime now = LocalDateTime.now(clock);
 
         int activated = eventMapper.activateReadyEvents(now);
@@ -33,5 +44,28 @@ public class EventStatusScheduler {
         if (activated > 0 || ended > 0) {
             log.info("이벤트 상태 자동 변경: activated={}, ended={}, now={}", activated, ended, now);
         }
+        poolCompactionService.startDue();
+    }
+
+    /**
+     * 1분마다 발표 기간에 들어선 이벤트의 발표 안내 SMS 발송 시작
+     * - 발송 자체는 백그라운드에서 진행 (스케줄러 스레드를 오래 잡지 않음)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void startAnnouncementReminders() {
+        reminderFanoutService.startDue();
+    }
+
+    /**
+     * 1시간마다 발표가 끝난 이벤트 파티션 보관 (리더 노드만, 이벤트별 파티션 모드일 때만)
+     */
+    @Scheduled(fixedDelayString = "${storage.event-partitions.archive-interval-ms:3600000}")
+    public void archiveEndedEvents() {
+        if (!leaderLease.isLeader()) return;
+
+        int archived = eventPartitionService.archiveEnded(LocalDateTime.now(clock));
+        if (archived > 0) {
+            log.info("이벤트 파티션 보관: archived={}", archived);
+        }
     }
 }
@@ -0,0 +1,20 @@
+package com.company.lotto.scheduler;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 경계 시각 도달 알림 (Spring ApplicationEvent로 발행)
+ *
+ * @param eventId 이벤트 ID
+ * @param type    전환 종류
+ * @param at      경계 시각
+ */
+public record EventTransition(Long eventId, Type type, LocalDateTime at) {
+
+    public enum Type {
+        STARTED,                // start_at 도달 (READY -> ACTIVE)
+        PARTICIPATION_ENDED,    // end_at 도달 (참가 마감)
+        ANNOUNCEMENT_STARTED,   // announce_start_at 도달 (결과 발표 시작)
+        ENDED                   // announce_end_at 경과 (ACTIVE -> ENDED)
+    }
+}
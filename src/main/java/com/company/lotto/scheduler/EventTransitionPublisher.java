@@ -0,0 +1,60 @@
+package com.company.lotto.scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 전환 알림 발행
+ *
+ * - 리더 노드: 로컬 ApplicationEvent 발행 + Redis 채널로 다른 노드에 전파
+ * - 다른 노드: Redis 메시지를 받아 로컬 ApplicationEvent로 다시 발행 (캐시/슬롯 준비 등 노드별 작업용)
+ * - 메시지 형식: {nodeId}|{eventId}|{type}|{at}
+ */
+@Slf4j
+@Component
+public class EventTransitionPublisher implements MessageListener {
+
+    public static final String CHANNEL = "lotto:event-transition";
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StringRedisTemplate redisTemplate;
+    private final LeaderLease leaderLease;
+
+    public EventTransitionPublisher(ApplicationEventPublisher applicationEventPublisher,
+                                    StringRedisTemplate redisTemplate,
+                                    LeaderLease leaderLease) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.leaderLease = leaderLease;
+    }
+
+    public void publish(EventTransition transition) {
+        applicationEventPublisher.publishEvent(transition);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join("|",
+                    leaderLease.getNodeId(),
+                    String.valueOf(transition.eventId()),
+                    transition.type().name(),
+                    transition.at().toString()));
+        } catch (Exception e) {
+            log.warn("이벤트 전환 알림 전파 실패: {}", transition, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 4 || parts[0].equals(leaderLease.getNodeId())) return; // 내가 보낸 메시지
+
+        applicationEventPublisher.publishEvent(new EventTransition(
+                Long.valueOf(parts[1]),
+                EventTransition.Type.valueOf(parts[2]),
+                LocalDateTime.parse(parts[3])));
+    }
+}
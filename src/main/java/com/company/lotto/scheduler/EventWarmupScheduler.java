@@ -0,0 +1,33 @@
+package com.company.lotto.scheduler;
+
+import com.company.lotto.service.EventWarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EventWarmupScheduler {
+
+    private final EventWarmupService eventWarmupService;
+
+    /**
+     * 기동 직후 워밍업 (별도 스레드, 끝날 때까지 readiness = false)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        Thread thread = new Thread(eventWarmupService::warmUpOnStartup, "event-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 30초마다 곧 시작하는 이벤트 워밍업 (모든 노드에서 각자 실행)
+     */
+    @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+    public void warmUpDue() {
+        eventWarmupService.warmUpDue();
+    }
+}
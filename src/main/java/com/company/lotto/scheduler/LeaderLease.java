@@ -0,0 +1,87 @@
+package com.company.lotto.scheduler;
+
+import com.company.lotto.repository.SchedulerLeaseMapper;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러 리더 선출 (DB 리스)
+ *
+ * - scheduler_lease 테이블의 행 1개를 노드들이 조건부 UPDATE로 차지
+ * - 리더는 RENEW_INTERVAL마다 만료 시각을 연장, 연장하지 못하면 LEASE_TTL 후 다른 노드가 가져감
+ * - 상태 전환 UPDATE는 리더 노드에서만 실행 (모든 노드가 같은 UPDATE를 반복하지 않도록)
+ */
+@Slf4j
+@Component
+public class LeaderLease {
+
+    private static final String LEASE_NAME = "event-scheduler";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+
+    private final SchedulerLeaseMapper schedulerLeaseMapper;
+    private final Clock clock;
+
+    // 노드 식별자 (pid@host + 랜덤)
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID();
+
+    private volatile boolean leader;
+
+    public LeaderLease(SchedulerLeaseMapper schedulerLeaseMapper, Clock clock) {
+        this.schedulerLeaseMapper = schedulerLeaseMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * 10초마다 리스 획득/연장 시도
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void renew() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(LEASE_TTL);
+
+        boolean acquired;
+        try {
+            acquired = schedulerLeaseMapper.tryAcquire(LEASE_NAME, nodeId, now, expiresAt) > 0;
+            if (!acquired) {
+                try {
+                    schedulerLeaseMapper.insert(LEASE_NAME, nodeId, expiresAt);
+                    acquired = true;
+                } catch (DuplicateKeyException e) {
+                    // 다른 노드가 보유 중
+                }
+            }
+        } catch (Exception e) {
+            log.warn("스케줄러 리스 갱신 실패", e);
+            acquired = false;
+        }
+
+        if (acquired != leader) {
+            log.info("스케줄러 리더 변경: nodeId={}, leader={}", nodeId, acquired);
+        }
+        leader = acquired;
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void release() {
+        if (leader) {
+            leader = false;
+            schedulerLeaseMapper.release(LEASE_NAME, nodeId);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.lotto.scheduler;
+
+import com.company.lotto.service.VerificationCleanupService;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class VerificationExpiryScheduler {
+
+    private final VerificationCleanupService cleanupService;
+    private final LeaderLease leaderLease;
+    private final Clock clock;
+
+    // 한 번에 처리할 행 수 (청크 하나 = 트랜잭션 하나)
+    private final int chunkSize;
+
+    // 1회 실행에서 처리할 최대 청크 수 (다음 실행으로 이월)
+    private final int maxChunksPerRun;
+
+    // 인증 이력을 운영 테이블에 남겨둘 기간(일), 0 이하면 보관 처리 생략
+    // - 파티션 테이블을 쓰는 경우 DROP PARTITION으로 정리하므로 0으로 둔다
+    private final int retentionDays;
+
+    public VerificationExpiryScheduler(
+            VerificationCleanupService cleanupService,
+            LeaderLease leaderLease,
+            Clock clock,
+            @Value("${verification.sweeper.chunk-size:500}") int chunkSize,
+            @Value("${verification.sweeper.max-chunks-per-run:100}") int maxChunksPerRun,
+            @Value("${verification.sweeper.retention-days:7}") int retentionDays) {
+        this.cleanupService = cleanupService;
+        this.leaderLease = leaderLease;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 1분마다 인증 이력 정리 (리더 노드만 - 노드마다 돌리면 같은 행을 두고 락 경합 / 보관 INSERT 충돌)
+     * - REQUESTED 중 만료 시각이 지난 건 -> EXPIRED
+     * - 보관 기간이 지난 건 -> phone_verification_archive 로 이동
+     */
+    @Scheduled(fixedDelayString = "${verification.sweeper.interval-ms:60000}")
+    public void sweep() {
+        if (!leaderLease.isLeader()) return;
+
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        int expired = 0;
+        long lastId = 0;
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            long next = cleanupService.expireChunk(lastId, now, chunkSize);
+            if (next < 0) break;
+            expired++;
+            lastId = next;
+        }
+
+        int archived = 0;
+        if (retentionDays > 0) {
+            LocalDateTime cutoff = now.minusDays(retentionDays);
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                if (cleanupService.archiveChunk(cutoff, chunkSize) == 0) break;
+                archived++;
+            }
+        }
+
+        if (expired > 0 || archived > 0) {
+            log.info("인증 이력 정리: expiredChunks={}, archivedChunks={}, now={}", expired, archived, now);
+        }
+    }
+}
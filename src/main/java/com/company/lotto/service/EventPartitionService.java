@@ -0,0 +1,126 @@
+package com.company.lotto.service;
+
+import com.company.lotto.repository.EventPartitionMapper;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이벤트별 파티션 관리 (대형 캠페인용 저장 모드, MySQL 전용)
+ *
+ * - number_pool / participant 를 event_id LIST 파티션으로 나눔 (db/event_partition.sql 적용 후 활성화)
+ * - 이벤트마다 파티션 p{eventId} → 지난 이벤트 행이 인덱스에 섞이지 않아 참가 경로 인덱스 깊이가 이벤트 크기에만 비례
+ * - 번호 풀 생성 전에 파티션 추가, 발표 종료 후 보관 기간이 지나면
+ *   participant 파티션은 participant_archive_{eventId} 로 교환(EXCHANGE), number_pool 파티션은 DROP
+ *   → 둘 다 메타데이터 작업이라 DELETE 없이 끝남
+ *
+ * 비활성화(기본)면 모든 메서드가 아무것도 하지 않음 (H2 / 비파티션 스키마)
+ */
+@Slf4j
+@Service
+public class EventPartitionService {
+
+    static final String NUMBER_POOL = "number_pool";
+    static final String PARTICIPANT = "participant";
+
+    // MySQL: 같은 이름의 파티션이 이미 있음 (다른 노드가 먼저 추가)
+    private static final int ER_SAME_NAME_PARTITION = 1517;
+
+    private final EventPartitionMapper eventPartitionMapper;
+
+    private final boolean enabled;
+    private final int archiveAfterDays;
+
+    public EventPartitionService(
+            EventPartitionMapper eventPartitionMapper,
+            @Value("${storage.event-partitions.enabled:false}") boolean enabled,
+            @Value("${storage.event-partitions.archive-after-days:30}") int archiveAfterDays) {
+        this.eventPartitionMapper = eventPartitionMapper;
+        this.enabled = enabled;
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이벤트 파티션 준비 (번호 풀 / 참가자 INSERT 전에 호출)
+     * - DDL이므로 트랜잭션 밖에서 호출
+     */
+    public void ensurePartitions(Long eventId) {
+        if (!enabled) return;
+        ensurePartition(NUMBER_POOL, eventId);
+        ensurePartition(PARTICIPANT, eventId);
+    }
+
+    /**
+     * 번호 풀 파티션 삭제 (이벤트 종료 후 번호 풀 정리, 비활성화면 아무것도 하지 않음)
+     */
+    public void dropPoolPartition(Long eventId) {
+        if (!enabled) return;
+        if (eventPartitionMapper.existsPartition(NUMBER_POOL, eventId)) {
+            eventPartitionMapper.dropPartition(NUMBER_POOL, eventId);
+        }
+    }
+
+    /**
+     * 발표 종료 후 보관 기간이 지난 이벤트 정리
+     * - 이벤트 단위로 처리, 실패한 이벤트는 다음 실행에서 다시 시도 (각 단계가 재실행에 안전)
+     */
+    public int archiveEnded(LocalDateTime now) {
+        if (!enabled) return 0;
+
+        LocalDateTime before = now.minusDays(archiveAfterDays);
+        int archived = 0;
+        for (Long eventId : eventPartitionMapper.findArchivableEventIds(PARTICIPANT, before)) {
+            try {
+                archive(eventId);
+                archived++;
+            } catch (DataAccessException e) {
+                log.error("이벤트 파티션 보관 실패: eventId={}", eventId, e);
+            }
+        }
+        return archived;
+    }
+
+    private void archive(Long eventId) {
+        long started = System.currentTimeMillis();
+
+        // 참가자: 보관 테이블로 교환 후 빈 파티션 삭제
+        eventPartitionMapper.createArchiveTable(PARTICIPANT, eventId);
+        if (eventPartitionMapper.isArchivePartitioned(PARTICIPANT, eventId)) {
+            eventPartitionMapper.removeArchivePartitioning(PARTICIPANT, eventId);
+        }
+        if (!eventPartitionMapper.archiveHasRows(PARTICIPANT, eventId)) {
+            eventPartitionMapper.exchangePartition(PARTICIPANT, eventId);
+        }
+        eventPartitionMapper.dropPartition(PARTICIPANT, eventId);
+
+        // 번호 풀: 발급 번호는 lotto_ticket에 있으므로 보관하지 않고 삭제 (보통 종료 직후 정리 작업에서 이미 삭제됨)
+        dropPoolPartition(eventId);
+
+        log.info("이벤트 파티션 보관 완료: eventId={}, archiveTable={}_archive_{}, elapsedMs={}",
+                eventId, PARTICIPANT, eventId, System.currentTimeMillis() - started);
+    }
+
+    private void ensurePartition(String table, Long eventId) {
+        if (eventPartitionMapper.existsPartition(table, eventId)) return;
+        try {
+            eventPartitionMapper.addPartition(table, eventId);
+            log.info("이벤트 파티션 추가: table={}, eventId={}", table, eventId);
+        } catch (DataAccessException e) {
+            if (isSameNamePartition(e)) return;
+            throw e;
+        }
+    }
+
+    private boolean isSameNamePartition(DataAccessException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException sql && sql.getErrorCode() == ER_SAME_NAME_PARTITION;
+    }
+}
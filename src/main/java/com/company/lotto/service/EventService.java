@@ -1,6 +1,7 @@
 package com.company.lotto.service;
 
 import com.company.lotto.domain.Event;
+import com.company.lotto.domain.PoolGeneration;
 import com.company.lotto.dto.event.AnnouncingEventResponse;
 import com.company.lotto.dto.event.CreateEventRequest;
 import com.company.lotto.dto.event.CreateEventResponse;
@@ -10,9 +11,12 @@ import com.company.lotto.repository.EventMapper;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -20,22 +24,42 @@ public class EventService {
 
     private final EventMapper eventMapper;
     private final VerificationService verificationService;
-    private final NumberPoolService numberPoolService;
+    private final PoolGenerationService poolGenerationService;
 
     private final Clock clock; // 시간 주입(테스트 쉬움)
 
-    public GetEventsResponse getEvents(int page, int size) {
+    // 전체 이벤트 개수 캐시 갱신 주기
+    private static final long COUNT_CACHE_TTL_MILLIS = 30_000;
+
+    private final AtomicInteger cachedTotal = new AtomicInteger();
+    private volatile long cachedAtMillis;
+
+    @Transactional(readOnly = true)
+    public GetEventsResponse getEvents(int page, int size, String cursor) {
         page = Math.max(page, 1);
         size = Math.min(Math.max(size, 1), 100);
 
-        int offset = (page - 1) * size;
         LocalDateTime now = LocalDateTime.now(clock);
+        List<Event> events;
+        if (cursor == null || cursor.isBlank()) {
+            int offset = (page - 1) * size;
+            events = eventMapper.findAllPaged(offset, size, offset + size, null, null, now);
+        } else {
+            // 키셋 페이징 - "정렬버킷-eventId" 다음부터 (page는 무시)
+            long[] position = parseCursor(cursor);
+            events = eventMapper.findAllPaged(0, size, size, (int) position[0], position[1], now);
+        }
 
-        List<Event> events = eventMapper.findAllPaged(offset, size, now);
-        int total = eventMapper.countAll();
+        int total = countEvents();
         int totalPages = (int) Math.ceil((double) total / size);
 
-        return new GetEventsResponse(events, page, size, total, totalPages);
+        String nextCursor = null;
+        if (events.size() == size) {
+            Event last = events.get(events.size() - 1);
+            nextCursor = last.getSortPriority() + "-" + last.getEventId();
+        }
+
+        return new GetEventsResponse(events, page, size, total, totalPages, nextCursor);
     }
 
     @Transactional
@@ -56,30 +80,71 @@ public class EventService {
 
         eventMapper.insertEvent(event);
 
-        // 이벤트 생성 이후 번호 풀 생성(같은 트랜잭션)
-        numberPoolService.generatePool(event.getEventId());
+        // 번호 풀 생성 작업 등록 - 실제 생성은 커밋 이후 백그라운드에서 진행 (완료되면 ACTIVE)
+        PoolGeneration job = poolGenerationService.start(event.getEventId());
+
+        // 커밋되면 목록 개수 캐시에 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cachedTotal.incrementAndGet();
+            }
+        });
 
-        return new CreateEventResponse(event.getEventId(), "이벤트가 등록되었습니다.");
+        return new CreateEventResponse(event.getEventId(), job.getJobId(), "이벤트가 등록되었습니다.");
     }
 
+    @Transactional(readOnly = true)
     public EventDetailResponse getEvent(Long eventId) {
         Event event = eventMapper.findById(eventId);
         if (event == null) return null;
         return EventDetailResponse.of(event);
     }
 
+    @Transactional(readOnly = true)
     public Event getActiveEvent() {
         return eventMapper.findActiveEvent();
     }
 
+    @Transactional(readOnly = true)
     public AnnouncingEventResponse getAnnouncingEvent() {
         LocalDateTime now = LocalDateTime.now(clock);
         Event event = eventMapper.findAnnouncingEvent(now);
         return event == null ? AnnouncingEventResponse.notAnnouncing() : AnnouncingEventResponse.of(event);
     }
 
-    public void generatePool(Long eventId) {
-        numberPoolService.generatePool(eventId);
+    public PoolGeneration generatePool(Long eventId) {
+        return poolGenerationService.start(eventId);
+    }
+
+    public PoolGeneration getPoolStatus(Long eventId) {
+        return poolGenerationService.getStatus(eventId);
+    }
+
+    /**
+     * 전체 이벤트 개수 (캐시)
+     * - 매 목록 요청마다 COUNT(*)를 실행하지 않음
+     * - 이 노드에서 생성하면 커밋 후 +1, 다른 노드에서 생성된 건은 TTL이 지나면 반영
+     */
+    private int countEvents() {
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis - cachedAtMillis > COUNT_CACHE_TTL_MILLIS) {
+            cachedTotal.set(eventMapper.countAll());
+            cachedAtMillis = nowMillis;
+        }
+        return cachedTotal.get();
+    }
+
+    private long[] parseCursor(String cursor) {
+        int dash = cursor.indexOf('-');
+        try {
+            long bucket = Long.parseLong(cursor.substring(0, dash));
+            long eventId = Long.parseLong(cursor.substring(dash + 1));
+            if (bucket < 1 || bucket > 4) throw new NumberFormatException();
+            return new long[] {bucket, eventId};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
 
     private void validateEventTimeRule(CreateEventRequest req) {
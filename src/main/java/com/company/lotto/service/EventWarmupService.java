@@ -0,0 +1,209 @@
+package com.company.lotto.service;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.PoolGeneration;
+import com.company.lotto.domain.PoolGeneration.GenerationStatus;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.NumberPoolMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import com.company.lotto.repository.PoolGenerationMapper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이벤트 오픈 전 워밍업
+ *
+ * start_at 몇 분 전에 노드마다 실행해서, 오픈 직후 첫 요청들이 차가운 상태(커넥션 풀/JIT/MyBatis 구문/DB 버퍼)를 만나지 않게 함
+ *
+ * 단계:
+ * 1) 번호 풀 생성 완료 확인 (pool_generation) - 미완료면 준비 실패로 기록
+ * 2) 이벤트 메타데이터 + 슬롯 재고 조회 (인덱스 페이지 미리 읽기)
+ * 3) 커넥션 풀 채우기 (N개 동시 획득 후 반납)
+ * 4) 참가 경로 합성 호출 - 해시/암호화 + 참가 조회 쿼리를 실제와 같은 순서로 실행하고 롤백
+ *    (슬롯 조회는 잠금 없는 버전 - 진행 중인 이벤트에서도 실제 참가 요청의 슬롯을 잠그지 않음)
+ */
+@Slf4j
+@Service
+public class EventWarmupService {
+
+    /**
+     * 이벤트별 워밍업 결과
+     */
+    public record WarmupState(boolean ready, int availableSlots, String message) {
+    }
+
+    private final EventMapper eventMapper;
+    private final NumberPoolMapper numberPoolMapper;
+    private final ParticipantMapper participantMapper;
+    private final PoolGenerationMapper poolGenerationMapper;
+    private final VerificationService verificationService;
+    private final LottoService lottoService;
+    private final DataSource dataSource;
+    private final TransactionTemplate rollbackTemplate;
+    private final Clock clock;
+
+    private final int leadMinutes;
+    private final int connections;
+    private final int iterations;
+
+    // 이 노드의 이벤트별 워밍업 결과
+    private final Map<Long, WarmupState> states = new ConcurrentHashMap<>();
+
+    // 워밍업 1회차가 오류 없이 끝났는지 (readiness) - 실패하면 다음 주기 워밍업이 성공할 때까지 false
+    private volatile boolean warmedUp;
+
+    public EventWarmupService(
+            EventMapper eventMapper,
+            NumberPoolMapper numberPoolMapper,
+            ParticipantMapper participantMapper,
+            PoolGenerationMapper poolGenerationMapper,
+            VerificationService verificationService,
+            LottoService lottoService,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${warmup.lead-minutes:5}") int leadMinutes,
+            @Value("${warmup.connections:10}") int connections,
+            @Value("${warmup.iterations:50}") int iterations) {
+        this.eventMapper = eventMapper;
+        this.numberPoolMapper = numberPoolMapper;
+        this.participantMapper = participantMapper;
+        this.poolGenerationMapper = poolGenerationMapper;
+        this.verificationService = verificationService;
+        this.lottoService = lottoService;
+        // 복제본 라우팅 사용 시 dataSource는 지연 커넥션 프록시 → 실제 풀(primary)을 직접 워밍업
+        this.dataSource = dataSource instanceof LazyConnectionDataSourceProxy lazy ? lazy.getTargetDataSource() : dataSource;
+        this.rollbackTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.leadMinutes = leadMinutes;
+        this.connections = connections;
+        this.iterations = iterations;
+    }
+
+    /**
+     * 진행 중이거나 leadMinutes 안에 시작하는 이벤트 중 아직 준비되지 않은 이벤트 워밍업
+     * - 이벤트별 오류는 해당 이벤트 상태에 기록하고 나머지 이벤트는 계속 진행
+     * - 모든 대상이 오류 없이 끝났을 때만 readiness를 켬 (번호 풀 미생성 보류는 노드 문제가 아니므로 오류로 보지 않음)
+     */
+    public void warmUpDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        boolean failed = false;
+        for (Event event : eventMapper.findWarmupTargets(now, now.plusMinutes(leadMinutes))) {
+            WarmupState state = states.get(event.getEventId());
+            if (state != null && state.ready()) continue;
+            try {
+                states.put(event.getEventId(), warmUp(event));
+            } catch (RuntimeException e) {
+                log.error("워밍업 실패: eventId={}", event.getEventId(), e);
+                states.put(event.getEventId(), new WarmupState(false, 0, "워밍업 중 오류가 발생했습니다."));
+                failed = true;
+            }
+        }
+        if (!failed) {
+            warmedUp = true;
+        }
+    }
+
+    /**
+     * 기동 직후 1회 - 오류 없이 끝나기 전까지 readiness는 false (실패하면 30초 주기 워밍업이 재시도)
+     */
+    public void warmUpOnStartup() {
+        try {
+            warmUpDue();
+        } catch (RuntimeException e) {
+            log.error("기동 워밍업 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * readiness 판단 - 워밍업이 한 번이라도 오류 없이 끝났을 때만 true
+     * 한 번 켜진 뒤에는 주기 워밍업 결과와 무관 (모든 노드가 동시에 로테이션에서 빠지는 것 방지, 이벤트별 상태는 getStates로 확인)
+     */
+    public boolean isReady() {
+        return warmedUp;
+    }
+
+    public Map<Long, WarmupState> getStates() {
+        return Map.copyOf(states);
+    }
+
+    private WarmupState warmUp(Event event) {
+        Long eventId = event.getEventId();
+        long started = System.currentTimeMillis();
+
+        // 1) 번호 풀 확인 (생성 작업이 끝난 풀만)
+        PoolGeneration job = poolGenerationMapper.findByEventId(eventId);
+        if (job == null || job.getStatus() != GenerationStatus.COMPLETED) {
+            log.warn("워밍업 보류 - 번호 풀 생성 미완료: eventId={}", eventId);
+            return new WarmupState(false, 0, "번호 풀이 생성되지 않았습니다.");
+        }
+        int poolSize = numberPoolMapper.countByEventId(eventId);
+
+        // 2) 메타데이터 + 재고
+        eventMapper.findById(eventId);
+        int available = numberPoolMapper.countAvailableByEventId(eventId);
+
+        // 3) 커넥션 풀
+        primeConnections();
+
+        // 4) 참가 경로 합성 호출 (쓰기 / 잠금 없이 조회만, 트랜잭션은 롤백)
+        for (int i = 0; i < iterations; i++) {
+            exerciseParticipatePath(event, i);
+        }
+
+        log.info("워밍업 완료: eventId={}, poolSize={}, available={}, elapsedMs={}",
+                eventId, poolSize, available, System.currentTimeMillis() - started);
+        return new WarmupState(true, available, null);
+    }
+
+    private void primeConnections() {
+        List<Connection> opened = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                opened.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 워밍업 중단: opened={}", opened.size(), e);
+        } finally {
+            for (Connection connection : opened) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 반납 실패는 무시
+                }
+            }
+        }
+    }
+
+    private void exerciseParticipatePath(Event event, int i) {
+        // 합성 번호 (010-9999-xxxx 대역) - 실제 가입자 번호일 수 있으나 조회만 하고 롤백하므로 저장 / 발송 / 참가 기록 없음
+        String phoneNumber = String.format("0109999%04d", i % 10_000);
+        PhoneKey phoneKey = verificationService.phoneKey(phoneNumber);
+        verificationService.encryptPhone(phoneNumber);
+
+        rollbackTemplate.executeWithoutResult(status -> {
+            if (phoneKey.hmac() != null) {
+                participantMapper.findEntryByPhoneHmac(phoneKey.hmac(), event.getEventId());
+            }
+            participantMapper.findEntryByPhoneHash(phoneKey.hash(), event.getEventId());
+            int ticketSeq = participantMapper.selectNextTicketSeq(event.getEventId());
+            // FOR UPDATE 버전을 쓰면 진행 중인 이벤트에서 실제 요청이 잡을 슬롯을 잠금 → 잠금 없는 버전으로 같은 실행 계획만 예열
+            numberPoolMapper.peekRandomAvailableSlot(event.getEventId(),
+                    lottoService.getEligibleResults(phoneKey.hash(), event, ticketSeq));
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -1,11 +1,15 @@
 package com.company.lotto.service;
 
+import com.company.lotto.config.ErrorCode;
+import com.company.lotto.config.LottoException;
 import com.company.lotto.domain.Event;
 import com.company.lotto.domain.LottoTicket;
-import com.company.lotto.domain.NumberPool;
 import com.company.lotto.domain.NumberPool.PoolResult;
 import com.company.lotto.domain.Participant;
+import com.company.lotto.domain.ParticipantEntry;
+import com.company.lotto.domain.PoolSlot;
 import com.company.lotto.domain.ResultView;
+import com.company.lotto.domain.SmsLog.SmsType;
 import com.company.lotto.dto.lotto.ParticipateResponse;
 import com.company.lotto.dto.lotto.ResultResponse;
 import com.company.lotto.repository.EventMapper;
@@ -13,6 +17,7 @@ import com.company.lotto.repository.LottoTicketMapper;
 import com.company.lotto.repository.NumberPoolMapper;
 import com.company.lotto.repository.ParticipantMapper;
 import com.company.lotto.repository.ResultViewMapper;
+import com.company.lotto.service.SmsDispatcher.SmsMessage;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -44,52 +49,43 @@ public class LottoService {
     // 인증 상태 확인 + 전화번호 해시/암호화 처리
     private final VerificationService verificationService;
 
+    // 발급 안내 SMS 발송 (이력 기록 후 커밋되면 큐에 넣기만 하고 요청 스레드는 대기하지 않음)
+    private final SmsDispatcher smsDispatcher;
+
+    // 발표 중 이벤트 결과 조회용 메모리 읽기 모델
+    private final ResultReadModel resultReadModel;
+
+    // 참가자 Bloom 필터 (참가 이력이 확실히 없으면 DB 조회 생략)
+    private final ParticipantFilter participantFilter;
+
+    // ticket_seq 예약 (묶음 참가 / 일괄 등록과 같은 카운터)
+    private final TicketSeqAllocator ticketSeqAllocator;
+
     /**
      * 이벤트 참여(로또 번호 발급)
      *
      * 핵심 흐름:
      * 1) 인증 완료 여부 확인
      * 2) 이벤트 존재/상태(ACTIVE) 확인
-     * 3) 전화번호 해시 기반 중복 참여 체크 (이벤트 단위)
-     * 4) Participant 저장 + ticket_seq 발급 (동시성 충돌 시 재시도)
+     * 3) 전화번호 해시 기반 중복 참여 체크 (이벤트 단위, 참가자 필터에 없으면 DB 조회 생략)
+     * 4) ticket_seq 예약 + Participant 저장 (같은 번호 동시 참가 시 기존 발급 응답)
      * 5) NumberPool에서 자격 조건에 맞는 슬롯(번호+등수)을 잠금 조회 후 사용 처리
      * 6) LottoTicket에 발급 결과 저장
-     * 7) 사용자에게 번호 + 마스킹 정보 응답
+     * 7) 발급 안내 SMS 발송 요청 (비동기)
+     * 8) 사용자에게 번호 + 마스킹 정보 응답
      */
     @Transactional
     public ParticipateResponse participate(String phoneNumber, Long eventId, Long verificationId) {
-        // 1. 인증 상태 확인 (인증이 완료되지 않으면 참여 불가)
-        if (!verificationService.isVerified(verificationId)) {
-            throw new IllegalStateException("인증이 완료되지 않았습니다.");
-        }
-
-        // 2. 이벤트 확인 (존재 여부 + 진행 중인지)
-        Event event = eventMapper.findById(eventId);
-        if (event == null) {
-            throw new IllegalArgumentException("존재하지 않는 이벤트입니다.");
-        }
-        if (event.getStatus() != Event.EventStatus.ACTIVE) {
-            throw new IllegalStateException("진행 중인 이벤트가 아닙니다.");
-        }
+        // 1~2. 인증 상태 + 이벤트(존재 여부 + 진행 중인지) 확인
+        Event event = checkParticipable(eventId, verificationId);
 
         // 3. 중복 체크
         // - phoneNumber를 hash 처리해서 저장/비교 (개인정보 보호 + 중복 방지)
         // - 이미 참가한 경우 에러 대신 기존 발급 번호를 반환
-        String phoneHash = verificationService.hashPhone(phoneNumber);
-        Participant existing = participantMapper.findByPhoneHashAndEventId(phoneHash, eventId);
-        if (existing != null) {
-            LottoTicket existingTicket = lottoTicketMapper.findByParticipantId(existing.getParticipantId());
-            if (existingTicket == null) {
-                throw new IllegalStateException("이미 참가한 번호입니다.");
-            }
-            ParticipateResponse alreadyResponse = new ParticipateResponse();
-            alreadyResponse.setLottoNumbers(List.of(
-                    existingTicket.getNum1(), existingTicket.getNum2(), existingTicket.getNum3(),
-                    existingTicket.getNum4(), existingTicket.getNum5(), existingTicket.getNum6()
-            ));
-            alreadyResponse.setPhoneLast4(existing.getPhoneLast4());
-            alreadyResponse.setMessage("이미 발급된 로또 번호입니다.");
-            alreadyResponse.setAlreadyIssued(true);
+        PhoneKey phoneKey = verificationService.phoneKey(phoneNumber);
+        String phoneHash = phoneKey.hash();
+        ParticipateResponse alreadyResponse = findIssued(phoneNumber, phoneKey, eventId);
+        if (alreadyResponse != null) {
             return alreadyResponse;
         }
 
@@ -99,77 +95,119 @@ public class LottoService {
 
         Participant participant = new Participant();
         participant.setEventId(eventId);
-        participant.setPhoneHash(phoneHash);
+        // HMAC 모드에서는 phone_hash를 저장하지 않음 (uk_event_phone 인덱스 제거 대비)
+        participant.setPhoneHash(verificationService.getPhoneHashMode() == PhoneHashMode.HMAC ? null : phoneHash);
+        participant.setPhoneHmac(phoneKey.hmac());
         participant.setPhoneEncrypted(phoneEncrypted);
         participant.setPhoneLast4(phoneLast4);
 
-        // ticket_seq는 MAX + 1 기반이라 동시에 여러 요청이 오면 충돌 가능
-        // - DB에 UNIQUE 인덱스로 방어하고,
-        // - 충돌 발생 시 최대 3번 재시도
+        // ticket_seq는 ticket_sequence 행으로 예약하므로 다른 요청과 겹치지 않음
+        // - 충돌은 같은 번호 동시 참가(uk_event_phone) 또는 예약 도입 전 노드와 섞여 실행될 때만 발생
+        // - DB에 UNIQUE 인덱스로 방어하고, 충돌 발생 시 최대 3번 재시도
         int maxRetries = 3;
         for (int attempt = 0; attempt < maxRetries; attempt++) {
-            int ticketSeq = participantMapper.selectNextTicketSeq(eventId);
+            int ticketSeq = ticketSeqAllocator.reserve(eventId, 1);
             participant.setTicketSeq(ticketSeq);
             participant.setCreatedAt(LocalDateTime.now());
 
             try {
                 participantMapper.insertParticipant(participant);
+                participantFilter.add(eventId, phoneKey);
                 break; // 저장 성공하면 루프 종료
             } catch (DuplicateKeyException e) {
-                Participant race = participantMapper.findByPhoneHashAndEventId(phoneHash, eventId);
-                if (race != null) {
-                    LottoTicket raceTicket = lottoTicketMapper.findByParticipantId(race.getParticipantId());
-                    if (raceTicket != null) {
-                        ParticipateResponse raceResponse = new ParticipateResponse();
-                        raceResponse.setLottoNumbers(List.of(
-                                raceTicket.getNum1(), raceTicket.getNum2(), raceTicket.getNum3(),
-                                raceTicket.getNum4(), raceTicket.getNum5(), raceTicket.getNum6()
-                        ));
-                        raceResponse.setPhoneLast4(race.getPhoneLast4());
-                        raceResponse.setMessage("이미 발급된 로또 번호입니다.");
-                        raceResponse.setAlreadyIssued(true);
-                        return raceResponse;
-                    }
-                    throw new IllegalStateException("이미 참가한 번호입니다.");
+                // 필터를 거치지 않고 DB로 확인 (다른 노드 / 일괄 등록으로 저장된 참가자는 필터에 없을 수 있음)
+                ParticipateResponse raceResponse = findIssuedInDb(phoneNumber, phoneKey, eventId);
+                if (raceResponse != null) {
+                    return raceResponse;
                 }
                 // 재시도 끝까지 실패하면 사용자에게 재시도 안내
                 if (attempt == maxRetries - 1) {
-                    throw new IllegalStateException("참가 처리 중 오류가 발생했습니다. 다시 시도해주세요.");
+                    throw LottoException.of(ErrorCode.PARTICIPATE_CONFLICT);
                 }
             }
         }
 
         // 5. 슬롯 배정 (NumberPool에서 번호 + 등수 결과 가져오기)
         List<String> eligibleResults = getEligibleResults(phoneHash, event, participant.getTicketSeq());
-        NumberPool slot = numberPoolMapper.findRandomAvailableSlot(eventId, eligibleResults);
+        PoolSlot slot = numberPoolMapper.findRandomAvailableSlot(eventId, eligibleResults);
 
         if (slot == null) {
-            throw new IllegalStateException("배정 가능한 슬롯이 없습니다.");
+            throw LottoException.of(ErrorCode.SLOTS_EXHAUSTED);
         }
 
         // 선택된 슬롯을 사용 처리 (재사용 방지)
-        numberPoolMapper.markUsed(slot.getPoolId());
+        numberPoolMapper.markUsed(eventId, slot.poolId());
 
         // 6. lotto_ticket 저장 (실제 발급된 티켓 기록)
         LottoTicket ticket = new LottoTicket();
         ticket.setParticipantId(participant.getParticipantId());
-        ticket.setNum1(slot.getSlot1());
-        ticket.setNum2(slot.getSlot2());
-        ticket.setNum3(slot.getSlot3());
-        ticket.setNum4(slot.getSlot4());
-        ticket.setNum5(slot.getSlot5());
-        ticket.setNum6(slot.getSlot6());
-        ticket.setResult(slot.getResult());
+        ticket.setNumbers(slot.numbers());
+        ticket.setResult(slot.result());
         ticket.setIssuedAt(LocalDateTime.now());
         lottoTicketMapper.insertTicket(ticket);
 
         // 사용자 응답용 로또 번호 리스트 구성
-        List<Integer> lottoNumbers = List.of(
-                slot.getSlot1(), slot.getSlot2(), slot.getSlot3(),
-                slot.getSlot4(), slot.getSlot5(), slot.getSlot6()
-        );
+        List<Integer> lottoNumbers = slot.numbers().toList();
+
+        // 7. 발급 안내 SMS (sms_log REQUESTED 행은 같은 트랜잭션에서 기록, 큐에는 커밋 후 적재)
+        smsDispatcher.enqueue(ticketSms(participant.getParticipantId(), phoneNumber, event, lottoNumbers));
+
+        // 8. 응답 반환 (번호 + 전화번호 뒷자리 + 안내 메시지)
+        return issuedResponse(lottoNumbers, phoneLast4);
+    }
+
+    /**
+     * 참가 가능 여부 확인 (단건 / 묶음 참가 공용)
+     * - 인증 완료 + 이벤트 존재 + ACTIVE
+     */
+    Event checkParticipable(Long eventId, Long verificationId) {
+        if (!verificationService.isVerified(verificationId)) {
+            throw LottoException.of(ErrorCode.NOT_VERIFIED);
+        }
+
+        Event event = eventMapper.findById(eventId);
+        if (event == null) {
+            throw LottoException.of(ErrorCode.EVENT_NOT_FOUND);
+        }
+        if (event.getStatus() != Event.EventStatus.ACTIVE) {
+            throw LottoException.of(ErrorCode.EVENT_NOT_ACTIVE);
+        }
+        return event;
+    }
+
+    /**
+     * 이미 발급된 티켓 조회 (참가자 + 티켓을 한 번의 JOIN으로 조회)
+     * - 발급된 티켓이 있으면 기존 번호 응답, 참가 이력이 없으면 null
+     * - 참가자만 있고 티켓이 없으면 ALREADY_PARTICIPATED
+     */
+    ParticipateResponse findIssued(String phoneNumber, PhoneKey phoneKey, Long eventId) {
+        return toIssuedResponse(findEntry(phoneNumber, phoneKey, eventId));
+    }
+
+    /**
+     * 이미 발급된 티켓 조회 - 참가자 필터 없이 항상 DB 조회
+     * - INSERT 충돌 / 대기 포기 등 "저장됐을 수 있는" 상황에서 사용 (필터 미탐이 있어도 기존 발급을 놓치지 않음)
+     */
+    ParticipateResponse findIssuedInDb(String phoneNumber, PhoneKey phoneKey, Long eventId) {
+        return toIssuedResponse(findEntryInDb(phoneNumber, phoneKey, eventId));
+    }
 
-        // 7. 응답 반환 (번호 + 전화번호 뒷자리 + 안내 메시지)
+    private ParticipateResponse toIssuedResponse(ParticipantEntry existing) {
+        if (existing == null || !existing.participated()) {
+            return null;
+        }
+        if (!existing.hasTicket()) {
+            throw LottoException.of(ErrorCode.ALREADY_PARTICIPATED);
+        }
+        ParticipateResponse response = new ParticipateResponse();
+        response.setLottoNumbers(existing.numbers().toList());
+        response.setPhoneLast4(existing.phoneLast4());
+        response.setMessage("이미 발급된 로또 번호입니다.");
+        response.setAlreadyIssued(true);
+        return response;
+    }
+
+    static ParticipateResponse issuedResponse(List<Integer> lottoNumbers, String phoneLast4) {
         ParticipateResponse response = new ParticipateResponse();
         response.setLottoNumbers(lottoNumbers);
         response.setPhoneLast4(phoneLast4);
@@ -177,6 +215,15 @@ public class LottoService {
         return response;
     }
 
+    static SmsMessage ticketSms(Long participantId, String phoneNumber, Event event, List<Integer> lottoNumbers) {
+        return new SmsMessage(
+                participantId,
+                SmsType.TICKET,
+                phoneNumber,
+                "[로또 이벤트] " + event.getName() + " 발급 번호: " + lottoNumbers
+        );
+    }
+
     // 결과 enum을 사용자에게 보여줄 라벨로 매핑
     private static final Map<PoolResult, String> RESULT_LABELS = Map.of(
             PoolResult.FIRST, "1등 당첨",
@@ -192,74 +239,132 @@ public class LottoService {
      * 핵심 정책:
      * - 발표 기간(announce_start_at ~ announce_end_at) 안에서만 결과 조회 가능
      * - 결과 상세(등수/번호)는 "첫 조회"일 때만 공개
-     * - 조회 이력(result_view)은 UPSERT로 기록/증가하여 동시성 안전하게 관리
+     * - 조회 이력(result_view)은 INSERT 성공 여부로 첫 조회를 판단 (동시 요청 중 1건만 첫 조회)
+     *
+     * 정상 흐름은 SQL 2번: 이벤트 + 참가자 + 티켓 + 조회 이력 JOIN 조회 1번, 조회 이력 INSERT/UPDATE 1번
+     * 발표 중 이벤트가 메모리 읽기 모델에 적재되어 있으면 JOIN 조회 없이 조회 이력 INSERT/UPDATE 1번
      */
     @Transactional
     public ResultResponse checkResult(String phoneNumber, Long eventId) {
-        // 1. 이벤트 확인
-        Event event = eventMapper.findById(eventId);
-        if (event == null) {
-            throw new IllegalArgumentException("존재하지 않는 이벤트입니다.");
+        // 1. 이벤트 + 참가자 + 티켓 + 조회 이력 (전화번호 식별값 + 이벤트로 한 번에 조회)
+        PhoneKey phoneKey = verificationService.phoneKey(phoneNumber);
+        ParticipantEntry entry = resultReadModel.find(eventId, phoneKey, phoneNumber);
+        if (entry == null) {
+            // 메모리에 없으면 참가자 필터 → DB (미참가 / 적재 전 / 다른 이벤트)
+            entry = findEntry(phoneNumber, phoneKey, eventId);
+        }
+        if (entry == null) {
+            throw LottoException.of(ErrorCode.EVENT_NOT_FOUND);
         }
 
         // 2. 발표 기간 검증 (이 기간에만 결과 조회 허용)
         LocalDateTime now = LocalDateTime.now();
-        if (event.getAnnounceStartAt() == null || event.getAnnounceEndAt() == null) {
-            throw new IllegalStateException("발표 기간이 설정되지 않은 이벤트입니다.");
+        if (entry.announceStartAt() == null || entry.announceEndAt() == null) {
+            throw LottoException.of(ErrorCode.ANNOUNCE_NOT_CONFIGURED);
         }
-        if (now.isBefore(event.getAnnounceStartAt())) {
-            throw new IllegalStateException("아직 발표 기간이 아닙니다.");
+        if (now.isBefore(entry.announceStartAt())) {
+            throw LottoException.of(ErrorCode.ANNOUNCE_NOT_STARTED);
         }
-        if (now.isAfter(event.getAnnounceEndAt())) {
-            throw new IllegalStateException("발표 기간이 종료되었습니다.");
+        if (now.isAfter(entry.announceEndAt())) {
+            throw LottoException.of(ErrorCode.ANNOUNCE_ENDED);
         }
 
-        // 3. 참가자 확인 (전화번호 hash + 이벤트로 참가 이력 조회)
-        String phoneHash = verificationService.hashPhone(phoneNumber);
-        Participant participant = participantMapper.findByPhoneHashAndEventId(phoneHash, eventId);
-        if (participant == null) {
-            throw new IllegalArgumentException("참가 이력이 없습니다.");
+        // 3. 참가자 확인
+        if (!entry.participated()) {
+            throw LottoException.of(ErrorCode.NOT_PARTICIPATED);
         }
 
-        // 4. 티켓 확인 (참가자가 발급받은 티켓 조회)
-        LottoTicket ticket = lottoTicketMapper.findByParticipantId(participant.getParticipantId());
-        if (ticket == null) {
-            throw new IllegalStateException("발급된 티켓이 없습니다.");
+        // 4. 티켓 확인
+        if (!entry.hasTicket()) {
+            throw LottoException.of(ErrorCode.TICKET_NOT_FOUND);
         }
 
         // 당첨 여부 판단 (미당첨이 아니면 당첨)
-        boolean won = ticket.getResult() != PoolResult.NONE;
+        boolean won = entry.result() != PoolResult.NONE;
 
-        // 5. 결과 조회 이력 기록 (UPSERT)
-        // - 없으면 insert(view_count=1)
-        // - 있으면 update(view_count + 1)
-        LocalDateTime viewNow = LocalDateTime.now();
-        resultViewMapper.upsertView(participant.getParticipantId(), viewNow);
+        // 5. 결과 조회 이력 기록 + firstCheck 판별
+        boolean isFirstCheck = recordView(entry, LocalDateTime.now());
+        resultReadModel.markViewed(eventId, phoneKey, phoneNumber);
 
-        // 6. firstCheck 판별
-        //   현재 view_count를 조회해서 1이면 최초 조회로 판단
-        ResultView after = resultViewMapper.findByParticipantId(participant.getParticipantId());
-        boolean isFirstCheck = (after != null && after.getViewCount() == 1);
-
-        // 7. 응답 구성
+        // 6. 응답 구성
         ResultResponse response = new ResultResponse();
-        response.setPhoneLast4(participant.getPhoneLast4());
+        response.setPhoneLast4(entry.phoneLast4());
         response.setWon(won);
         response.setFirstCheck(isFirstCheck);
 
         // 정책: "첫 조회"일 때만 상세 결과(번호/등수) 공개
         if (isFirstCheck) {
-            response.setResultTier(ticket.getResult().name());
-            response.setResultLabel(RESULT_LABELS.get(ticket.getResult()));
-            response.setLottoNumbers(List.of(
-                    ticket.getNum1(), ticket.getNum2(), ticket.getNum3(),
-                    ticket.getNum4(), ticket.getNum5(), ticket.getNum6()
-            ));
+            response.setResultTier(entry.result().name());
+            response.setResultLabel(RESULT_LABELS.get(entry.result()));
+            response.setLottoNumbers(entry.numbers().toList());
         }
 
         return response;
     }
 
+    /**
+     * 결과 조회 이력 기록 - 첫 조회면 true
+     *
+     * - JOIN 조회 시점에 이력이 없으면 INSERT(view_count=1) → 성공하면 첫 조회
+     * - 동시에 다른 요청이 먼저 INSERT했으면(DuplicateKeyException) 조회 수만 증가
+     * - 이미 이력이 있으면 조회 수만 증가
+     */
+    private boolean recordView(ParticipantEntry entry, LocalDateTime viewNow) {
+        if (entry.viewCount() == null) {
+            ResultView view = new ResultView();
+            view.setParticipantId(entry.participantId());
+            view.setFirstViewAt(viewNow);
+            view.setLastViewAt(viewNow);
+            try {
+                resultViewMapper.insert(view);
+                return true;
+            } catch (DuplicateKeyException e) {
+                // 동시 요청이 먼저 기록함 → 재조회로 처리
+            }
+        }
+        resultViewMapper.incrementViewCount(entry.participantId(), viewNow);
+        return false;
+    }
+
+    /**
+     * 전화번호 식별값으로 이벤트 참가자 + 티켓 + 조회 이력 조회 (phone.hash.mode 에 따라 조회 경로 결정)
+     *
+     * - LEGACY : phone_hash로만 조회
+     * - DUAL   : phone_hmac 우선 조회 → 참가 이력이 없으면 phone_hash로 조회 후 phone_hmac 백필
+     * - HMAC   : phone_hmac으로만 조회
+     *
+     * 이벤트가 없으면 null, 참가 이력이 없으면 participated() == false
+     * 참가자 필터에 없으면(참가 이력이 확실히 없으면) DB 조회 없이 participated() == false
+     * phone_hmac을 16바이트 prefix로 절단한 경우, 다른 번호와의 충돌이면 기존 참가자를 내주지 않고 실패 처리
+     */
+    private ParticipantEntry findEntry(String phoneNumber, PhoneKey phoneKey, Long eventId) {
+        ParticipantEntry absent = participantFilter.absentEntry(eventId, phoneKey);
+        if (absent != null) return absent;
+        return findEntryInDb(phoneNumber, phoneKey, eventId);
+    }
+
+    private ParticipantEntry findEntryInDb(String phoneNumber, PhoneKey phoneKey, Long eventId) {
+        PhoneHashMode mode = verificationService.getPhoneHashMode();
+
+        if (mode != PhoneHashMode.LEGACY) {
+            ParticipantEntry found = participantMapper.findEntryByPhoneHmac(phoneKey.hmac(), eventId);
+            if (found == null) return null;
+            if (found.participated()) {
+                if (!verificationService.isSamePhone(found.phoneEncrypted(), phoneNumber)) {
+                    throw LottoException.of(ErrorCode.PARTICIPATE_CONFLICT);
+                }
+                return found;
+            }
+            if (mode == PhoneHashMode.HMAC) return found;
+        }
+
+        ParticipantEntry legacy = participantMapper.findEntryByPhoneHash(phoneKey.hash(), eventId);
+        if (legacy != null && legacy.participated() && mode == PhoneHashMode.DUAL && legacy.phoneHmac() == null) {
+            participantMapper.updatePhoneHmac(eventId, legacy.participantId(), phoneKey.hmac());
+        }
+        return legacy;
+    }
+
     /**
      * 참가자에게 부여 가능한 등수 후보 리스트 생성
      *
@@ -1,16 +1,21 @@
 package com.company.lotto.service;
 
 import com.company.lotto.domain.Event;
+import com.company.lotto.domain.LottoNumbers;
 import com.company.lotto.domain.NumberPool;
 import com.company.lotto.domain.NumberPool.PoolResult;
+import com.company.lotto.domain.PoolGeneration.GenerationStatus;
 import com.company.lotto.repository.EventMapper;
 import com.company.lotto.repository.NumberPoolMapper;
+import com.company.lotto.repository.PoolGenerationMapper;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,65 +36,48 @@ public class NumberPoolService {
     // 미당첨은 나머지 전부 (TOTAL_SLOTS에서 위 등수들을 뺀 값)
     private static final int NONE_COUNT = TOTAL_SLOTS - FIRST_COUNT - SECOND_COUNT - THIRD_COUNT - FOURTH_COUNT;
 
-    // DB 배치 INSERT 시 한 번에 넣을 레코드 개수 (대량 삽입 성능/메모리 균형)
-    private static final int BATCH_SIZE = 1_000;
-
     private final NumberPoolMapper numberPoolMapper;
     private final EventMapper eventMapper;
+    private final PoolGenerationMapper poolGenerationMapper;
+    private final Clock clock;
 
     /**
-     * 이벤트 번호 풀 생성
+     * 이벤트 번호 풀 구성 (DB 쓰기 없음)
      *
      * 목적:
      * - 이벤트 참여 시 즉석에서 번호를 생성하는 게 아니라, 미리 10,000개의 번호 조합(NumberPool)을 만들어 "재고"처럼 관리
      * - 참여자가 들어오면 이 풀에서 하나 꺼내서(is_used=0) 배정하고, 사용 처리
+     * - 같은 seed면 항상 같은 풀(순서 포함)을 만듦 → 중단된 작업을 inserted_slots 이후부터 이어서 INSERT 가능
      *
      * 핵심 흐름:
-     * 1) 이벤트 검증 (존재/상태/중복 생성 여부)
-     * 2) 당첨 번호(기준 번호) 6개 생성
-     * 3) 등수별 규칙에 맞는 번호 조합을 대량 생성 (중복 방지)
-     * 4) 1,000개씩 batch insert
-     * 5) 이벤트 상태를 ACTIVE로 변경
+     * 1) 당첨 번호(기준 번호) 6개 생성
+     * 2) 등수별 규칙에 맞는 번호 조합을 대량 생성 (중복 방지)
+     * INSERT / ACTIVE 전환은 PoolGenerationService가 writeChunk / complete로 청크 단위 커밋
      */
-    @Transactional
-    public void generatePool(Long eventId) {
-        // 1) 이벤트 존재 여부 확인
-        Event event = eventMapper.findById(eventId);
-        if (event == null) {
-            throw new IllegalArgumentException("존재하지 않는 이벤트입니다.");
-        }
-
-        // 2) 이미 슬롯이 생성된 이벤트면 중복 생성 방지
-        int existing = numberPoolMapper.countByEventId(eventId);
-            if (existing > 0) return;
-
-        // 3) 슬롯은 READY/ACTIVE 상태에서만 생성 가능
-        Event.EventStatus status = event.getStatus();
-            if (status != Event.EventStatus.READY && status != Event.EventStatus.ACTIVE) {
-                throw new IllegalStateException("READY/ACTIVE 상태의 이벤트만 슬롯을 생성할 수 있습니다.");
-            }
+    public List<NumberPool> buildPool(Long eventId, long seed) {
+        Random random = new Random(seed);
 
         // 기준이 되는 "당첨 번호" 6개 생성 (오름차순 정렬)
-        List<Integer> winningNumbers = generateWinningNumbers();
+        List<Integer> winningNumbers = generateWinningNumbers(random);
 
-        // 모든 풀(10,000개)을 메모리에 모아서 배치로 INSERT
+        // 모든 풀(10,000개)을 메모리에 모아서 청크 단위로 INSERT
         List<NumberPool> allPools = new ArrayList<>(TOTAL_SLOTS);
 
-        // 번호 조합의 중복 방지를 위한 Set
-        // - 키 포맷: "1-3-10-22-33-45" 같은 형태
-        Set<String> uniqueKeys = new HashSet<>();
+        // 번호 조합의 중복 방지를 위한 Set (키 = 번호 비트마스크)
+        Set<Long> uniqueKeys = new HashSet<>();
 
         // 1등: 1개 (당첨번호 6개 완전 일치)
-        createAndAddPool(allPools, uniqueKeys, winningNumbers, winningNumbers, PoolResult.FIRST, eventId);
+        createAndAddPool(allPools, uniqueKeys, winningNumbers, winningNumbers, PoolResult.FIRST, eventId, random);
 
         // 2등: 5개 (당첨번호 중 5개 일치 + 1개는 당첨번호에 없는 숫자)
         for (int i = 0; i < SECOND_COUNT; i++) {
             createAndAddPool(
                     allPools, uniqueKeys,
-                    generateSlotWithMatches(5, winningNumbers),
+                    generateSlotWithMatches(5, winningNumbers, random),
                     winningNumbers,
                     PoolResult.SECOND,
-                    eventId
+                    eventId,
+                    random
             );
         }
 
@@ -97,10 +85,11 @@ public class NumberPoolService {
         for (int i = 0; i < THIRD_COUNT; i++) {
             createAndAddPool(
                     allPools, uniqueKeys,
-                    generateSlotWithMatches(4, winningNumbers),
+                    generateSlotWithMatches(4, winningNumbers, random),
                     winningNumbers,
                     PoolResult.THIRD,
-                    eventId
+                    eventId,
+                    random
             );
         }
 
@@ -108,10 +97,11 @@ public class NumberPoolService {
         for (int i = 0; i < FOURTH_COUNT; i++) {
             createAndAddPool(
                     allPools, uniqueKeys,
-                    generateSlotWithMatches(3, winningNumbers),
+                    generateSlotWithMatches(3, winningNumbers, random),
                     winningNumbers,
                     PoolResult.FOURTH,
-                    eventId
+                    eventId,
+                    random
             );
         }
 
@@ -119,24 +109,53 @@ public class NumberPoolService {
         for (int i = 0; i < NONE_COUNT; i++) {
             createAndAddPool(
                     allPools, uniqueKeys,
-                    generateNonWinningNumbers(winningNumbers),
+                    generateNonWinningNumbers(winningNumbers, random),
                     winningNumbers,
                     PoolResult.NONE,
-                    eventId
+                    eventId,
+                    random
             );
         }
 
-        // 4) 배치 INSERT (1,000개씩 잘라서 INSERT)
-        // - 단건 insert 10,000번보다 훨씬 빠름
-        for (int i = 0; i < allPools.size(); i += BATCH_SIZE) {
-            int end = Math.min(i + BATCH_SIZE, allPools.size());
-            numberPoolMapper.batchInsert(allPools.subList(i, end));
+        return allPools;
+    }
+
+    /**
+     * 청크 INSERT + 체크포인트 (한 트랜잭션)
+     * - 청크가 커밋되면 inserted_slots도 같이 커밋 → 재개 시 중복/누락 없음
+     */
+    @Transactional
+    public void writeChunk(Long jobId, List<NumberPool> chunk, int insertedSlots) {
+        numberPoolMapper.batchInsert(chunk);
+        poolGenerationMapper.updateProgress(jobId, insertedSlots, LocalDateTime.now(clock));
+    }
+
+    /**
+     * seed로 만들어지는 당첨 번호
+     * - buildPool과 같은 Random 순서로 처음 6개를 뽑으므로 풀의 1등 슬롯과 항상 같음
+     */
+    public LottoNumbers winningNumbers(long seed) {
+        return LottoNumbers.of(generateWinningNumbers(new Random(seed)));
+    }
+
+    /**
+     * 작업 완료 + 당첨 번호 저장 + 이벤트 ACTIVE 전환 (한 트랜잭션)
+     * - 풀이 모두 INSERT된 뒤에만 ACTIVE가 됨
+     * - 당첨 번호는 이후 재검증(TicketAuditService) / 채점(TicketScoringService) 기준
+     */
+    @Transactional
+    public void complete(Long jobId, Long eventId, LottoNumbers winningNumbers) {
+        poolGenerationMapper.updateStatus(jobId, GenerationStatus.COMPLETED.name(), null, LocalDateTime.now(clock));
+        eventMapper.updateWinningNumbers(eventId, winningNumbers);
+
+        Event event = eventMapper.findById(eventId);
+        if (event != null && event.getStatus() == Event.EventStatus.READY) {
+            eventMapper.updateStatus(eventId, Event.EventStatus.ACTIVE.name());
         }
+    }
 
-        // 5) 슬롯 생성이 끝났으니 이벤트를 ACTIVE로 전환
-        if (status == Event.EventStatus.READY) {
-                eventMapper.updateStatus(eventId, Event.EventStatus.ACTIVE.name());
-            }
+    public int getTotalSlots() {
+        return TOTAL_SLOTS;
     }
 
     /**
@@ -144,10 +163,10 @@ public class NumberPoolService {
      * - 1~45 범위, 중복 없이 6개
      * - 오름차순 정렬해서 반환
      */
-    private List<Integer> generateWinningNumbers() {
+    private List<Integer> generateWinningNumbers(Random random) {
         Set<Integer> numbers = new HashSet<>();
         while (numbers.size() < 6) {
-            numbers.add(ThreadLocalRandom.current().nextInt(1, 46)); // 1~45
+            numbers.add(random.nextInt(1, 46)); // 1~45
         }
         List<Integer> sorted = new ArrayList<>(numbers);
         Collections.sort(sorted);
@@ -162,10 +181,10 @@ public class NumberPoolService {
      * - 나머지 숫자는 "당첨번호에 없는 숫자"로 채워서
      *   의도한 일치 개수를 정확히 맞춤
      */
-    private List<Integer> generateSlotWithMatches(int matchCount, List<Integer> winningNumbers) {
+    private List<Integer> generateSlotWithMatches(int matchCount, List<Integer> winningNumbers, Random random) {
         // 당첨번호를 섞어서 matchCount개를 뽑기 위한 준비
         List<Integer> winning = new ArrayList<>(winningNumbers);
-        Collections.shuffle(winning);
+        Collections.shuffle(winning, random);
 
         // matchCount개는 당첨번호에서 그대로 유지
         Set<Integer> kept = new HashSet<>(winning.subList(0, matchCount));
@@ -174,7 +193,7 @@ public class NumberPoolService {
         // 나머지는 당첨번호에 없는 수로 채우기
         Set<Integer> winningSet = new HashSet<>(winningNumbers);
         while (result.size() < 6) {
-            int num = ThreadLocalRandom.current().nextInt(1, 46);
+            int num = random.nextInt(1, 46);
             if (!winningSet.contains(num)) {
                 result.add(num);
             }
@@ -191,48 +210,30 @@ public class NumberPoolService {
      * - 당첨번호와의 일치 개수가 0~2개가 되도록 생성
      * - 3개 이상 일치하면 4등 이상이 될 수 있으므로 다시 생성
      */
-    private List<Integer> generateNonWinningNumbers(List<Integer> winningNumbers) {
-        Set<Integer> winningSet = new HashSet<>(winningNumbers);
+    private List<Integer> generateNonWinningNumbers(List<Integer> winningNumbers, Random random) {
+        LottoNumbers winning = LottoNumbers.of(winningNumbers);
         List<Integer> numbers;
 
         // 랜덤 6개 생성 후, 당첨번호와 일치 개수가 2개 이하일 때만 통과
         do {
             Set<Integer> nums = new HashSet<>();
             while (nums.size() < 6) {
-                nums.add(ThreadLocalRandom.current().nextInt(1, 46));
+                nums.add(random.nextInt(1, 46));
             }
             numbers = new ArrayList<>(nums);
-        } while (countMatches(numbers, winningSet) > 2);
+        } while (LottoNumbers.of(numbers).matchCount(winning) > 2);
 
         Collections.sort(numbers);
         return numbers;
     }
 
-    /**
-     * numbers 중 winningSet에 포함되는 숫자 개수(일치 개수) 계산
-     */
-    private int countMatches(List<Integer> numbers, Set<Integer> winningSet) {
-        int count = 0;
-        for (int num : numbers) {
-            if (winningSet.contains(num)) {
-                count++;
-            }
-        }
-        return count;
-    }
-
     /**
      * 번호 6개 + 결과 등급 + 이벤트ID를 NumberPool 엔티티로 변환
      * - is_used = 0(미사용)으로 초기화
      */
-    private NumberPool createPool(List<Integer> numbers, PoolResult result, Long eventId) {
+    private NumberPool createPool(LottoNumbers numbers, PoolResult result, Long eventId) {
         NumberPool pool = new NumberPool();
-        pool.setSlot1(numbers.get(0));
-        pool.setSlot2(numbers.get(1));
-        pool.setSlot3(numbers.get(2));
-        pool.setSlot4(numbers.get(3));
-        pool.setSlot5(numbers.get(4));
-        pool.setSlot6(numbers.get(5));
+        pool.setNumbers(numbers);
         pool.setResult(result);
         pool.setIsUsed(0);   // 아직 배정되지 않은 슬롯
         pool.setEventId(eventId);
@@ -242,48 +243,36 @@ public class NumberPoolService {
     /**
      * 풀 리스트에 NumberPool 추가 (중복 번호 조합 방지 포함)
      *
-     * - createKey(numbers)로 번호 조합 키를 만들고,
+     * - 번호 조합의 비트마스크를 키로 사용 (정렬/문자열 변환 없이 중복 체크)
      * - 이미 같은 키가 있으면(중복) 해당 등수 규칙에 맞게 numbers를 다시 생성
      * - 중복이 아니면 uniqueKeys에 등록하고 pools에 추가
      */
     private void createAndAddPool(List<NumberPool> pools,
-                                  Set<String> uniqueKeys,
+                                  Set<Long> uniqueKeys,
                                   List<Integer> numbers,
                                   List<Integer> winningNumbers,
                                   PoolResult result,
-                                  Long eventId) {
+                                  Long eventId,
+                                  Random random) {
 
-        String key = createKey(numbers);
+        LottoNumbers key = LottoNumbers.of(numbers);
 
         // 중복이면 다시 생성 (유니크해질 때까지 반복)
-        while (uniqueKeys.contains(key)) {
+        while (uniqueKeys.contains(key.mask())) {
             if (result == PoolResult.FIRST) {
                 numbers = winningNumbers;
             } else if (result == PoolResult.NONE) {
-                numbers = generateNonWinningNumbers(winningNumbers);
+                numbers = generateNonWinningNumbers(winningNumbers, random);
             } else {
                 int matchCount =
                         result == PoolResult.SECOND ? 5 :
                                 result == PoolResult.THIRD ? 4 : 3;
-                numbers = generateSlotWithMatches(matchCount, winningNumbers);
+                numbers = generateSlotWithMatches(matchCount, winningNumbers, random);
             }
-            key = createKey(numbers);
+            key = LottoNumbers.of(numbers);
         }
 
-        uniqueKeys.add(key);
-        pools.add(createPool(numbers, result, eventId));
-    }
-
-    /**
-     * 번호 6개를 문자열 키로 변환
-     * - Set에서 중복 체크할 때 사용
-     */
-    private String createKey(List<Integer> numbers) {
-        return numbers.get(0) + "-" +
-                numbers.get(1) + "-" +
-                numbers.get(2) + "-" +
-                numbers.get(3) + "-" +
-                numbers.get(4) + "-" +
-                numbers.get(5);
+        uniqueKeys.add(key.mask());
+        pools.add(createPool(key, result, eventId));
     }
 }
@@ -0,0 +1,335 @@
+package com.company.lotto.service;
+
+import com.company.lotto.config.ParticipantFilterStore;
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.Participant;
+import com.company.lotto.domain.ParticipantEntry;
+import com.company.lotto.dto.lotto.ParticipantFilterResponse;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import com.company.lotto.scheduler.LeaderLease;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이벤트별 참가자 Bloom 필터 - "참가 이력 없음"이 확실하면 DB 조회 생략
+ *
+ * - 진행 중 / 발표 중 이벤트의 참가자 전화번호 식별값을 participant에서 키셋 페이징으로 적재 (기동 직후 / 1분 주기 확인)
+ * - 참가 저장(단건 / 묶음 / 일괄 등록) 시 INSERT 직후 바로 추가 → 적재 완료 여부와 관계없이 항상 반영
+ * - 적재가 끝나면 마지막 비트(준비 비트)를 켬, 준비 비트가 꺼져 있으면(적재 전 / 키 유실) 항상 DB 조회
+ * - 오탐(참가 안 했는데 있다고 판단)은 DB 조회로 걸러지고, 미탐은 없음
+ *   → 결과 조회는 메모리 읽기 모델(참가자만)과 함께 쓰면 참가자 / 미참가자 모두 JOIN 조회 생략
+ *
+ * 필터 키 (전화번호 1개 = 16바이트 → 이중 해싱으로 k개 위치):
+ * - LEGACY   : phone_hash
+ * - DUAL     : phone_hmac (없는 기존 행은 phone_hash), 조회는 phone_hmac → phone_hash 둘 다 확인
+ * - HMAC     : phone_hmac
+ * 크기 m = -n·ln(p) / ln(2)², 해시 수 k = m/n·ln(2) (n = expected-insertions, p = false-positive-rate)
+ * 모드 / 크기가 키 이름에 들어가므로 설정을 바꾸면 새 필터를 적재
+ */
+@Slf4j
+@Service
+public class ParticipantFilter {
+
+    private static final int PAGE_SIZE = 2_000;
+
+    // 공유 저장소 비트맵 만료 (리더가 1분마다 연장)
+    private static final Duration RETENTION = Duration.ofDays(1);
+
+    private final EventMapper eventMapper;
+    private final ParticipantMapper participantMapper;
+    private final VerificationService verificationService;
+    private final ParticipantFilterStore store;
+    private final LeaderLease leaderLease;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long bits;        // m (준비 비트 제외)
+    private final int hashes;       // k
+
+    // 대상 이벤트 (진행 중 / 발표 중)
+    private final Map<Long, Target> targets = new ConcurrentHashMap<>();
+    private final Set<Long> building = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder unavailable = new LongAdder();
+
+    public ParticipantFilter(
+            EventMapper eventMapper,
+            ParticipantMapper participantMapper,
+            VerificationService verificationService,
+            ParticipantFilterStore store,
+            LeaderLease leaderLease,
+            Clock clock,
+            @Value("${participant-filter.enabled:false}") boolean enabled,
+            @Value("${participant-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${participant-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${participant-filter.max-bytes:67108864}") long maxBytes) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("participant-filter.expected-insertions > 0, 0 < false-positive-rate < 1 이어야 합니다.");
+        }
+        this.eventMapper = eventMapper;
+        this.participantMapper = participantMapper;
+        this.verificationService = verificationService;
+        this.store = store;
+        this.leaderLease = leaderLease;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        // Redis 문자열 최대 512MB, 준비 비트 1개 자리 남김
+        long maxBits = Math.min(maxBytes, 512L * 1024 * 1024) * 8 - 1;
+        long optimal = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        if (optimal > maxBits) {
+            log.warn("참가자 필터 크기 제한으로 오탐률 증가: optimalBits={}, maxBits={}", optimal, maxBits);
+        }
+        this.bits = Math.max(Math.min(optimal, maxBits), 64);
+        this.hashes = (int) Math.max(1, Math.round((double) bits / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 1분마다 대상 이벤트 확인 + 적재되지 않은 필터 적재 (initialDelay: 기동 직후)
+     * - 공유 저장소(redis)면 리더 노드만 적재 / 만료 연장, 로컬이면 노드마다 적재
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 5_000)
+    public void refresh() {
+        if (!enabled) return;
+
+        List<Event> events = new ArrayList<>(2);
+        Event active = eventMapper.findActiveEvent();
+        if (active != null) events.add(active);
+        Event announcing = eventMapper.findAnnouncingEvent(LocalDateTime.now(clock));
+        if (announcing != null && (active == null || !active.getEventId().equals(announcing.getEventId()))) {
+            events.add(announcing);
+        }
+
+        Set<Long> current = new HashSet<>();
+        for (Event event : events) {
+            Long eventId = event.getEventId();
+            current.add(eventId);
+            targets.put(eventId, new Target(event.getAnnounceStartAt(), event.getAnnounceEndAt()));
+
+            if (store.isShared() && !leaderLease.isLeader()) continue;
+            try {
+                if (isReady(eventId)) {
+                    store.expire(key(eventId), RETENTION);
+                } else {
+                    build(eventId);
+                }
+            } catch (Exception e) {
+                log.warn("참가자 필터 확인 실패: eventId={}", eventId, e);
+            }
+        }
+
+        for (Long eventId : targets.keySet()) {
+            if (current.contains(eventId)) continue;
+            targets.remove(eventId);
+            if (!store.isShared()) store.delete(key(eventId));
+            log.info("참가자 필터 해제: eventId={}", eventId);
+        }
+    }
+
+    /**
+     * 참가 이력이 확실히 없으면 "참가 이력 없음" 조회 결과, 아니면 null (호출 측에서 DB 조회)
+     * - 대상 이벤트가 아니거나 필터가 준비되지 않았거나 저장소 오류면 null
+     */
+    public ParticipantEntry absentEntry(Long eventId, PhoneKey phoneKey) {
+        if (!enabled || eventId == null) return null;
+        Target target = targets.get(eventId);
+        if (target == null) return null;
+
+        checks.increment();
+        PhoneHashMode mode = verificationService.getPhoneHashMode();
+        boolean byHmac = mode != PhoneHashMode.LEGACY && phoneKey.hmac() != null;
+        boolean byHash = mode != PhoneHashMode.HMAC && phoneKey.hash() != null;
+        if (!byHmac && !byHash) return null;
+
+        // [준비 비트][phone_hmac k개][phone_hash k개] 를 한 번에 조회
+        long[] offsets = new long[1 + (byHmac ? hashes : 0) + (byHash ? hashes : 0)];
+        offsets[0] = bits;
+        int next = 1;
+        if (byHmac) next = fillOffsets(offsets, next, keyOf(phoneKey.hmac()));
+        if (byHash) fillOffsets(offsets, next, keyOf(phoneKey.hash()));
+
+        boolean[] values;
+        try {
+            values = store.getBits(key(eventId), bits + 1, offsets);
+        } catch (Exception e) {
+            unavailable.increment();
+            log.debug("참가자 필터 조회 실패 - DB 조회: eventId={}", eventId, e);
+            return null;
+        }
+        if (!values[0]) {
+            unavailable.increment();
+            return null;
+        }
+        int from = 1;
+        if (byHmac) {
+            if (allSet(values, from, hashes)) return null;
+            from += hashes;
+        }
+        if (byHash && allSet(values, from, hashes)) return null;
+
+        negatives.increment();
+        return new ParticipantEntry(eventId, target.announceStartAt(), target.announceEndAt(),
+                null, null, null, null, null, null, null);
+    }
+
+    /**
+     * 참가자 저장 직후 추가 (트랜잭션 안, INSERT 성공 후)
+     * - 롤백되어도 비트는 남음 → 오탐 1건일 뿐 DB 조회로 걸러짐
+     * - 추가에 실패하면 비트맵을 지워 모든 노드가 DB 조회 후 다시 적재 (미탐 방지)
+     */
+    public void add(Long eventId, List<PhoneKey> phoneKeys) {
+        if (!enabled || phoneKeys.isEmpty()) return;
+
+        boolean byHmac = verificationService.getPhoneHashMode() != PhoneHashMode.LEGACY;
+        long[] offsets = new long[phoneKeys.size() * hashes];
+        int next = 0;
+        for (PhoneKey phoneKey : phoneKeys) {
+            next = fillOffsets(offsets, next, byHmac ? keyOf(phoneKey.hmac()) : keyOf(phoneKey.hash()));
+        }
+
+        try {
+            store.setBits(key(eventId), bits + 1, offsets);
+        } catch (Exception e) {
+            log.error("참가자 필터 추가 실패 - 필터 삭제 후 재적재: eventId={}", eventId, e);
+            try {
+                store.delete(key(eventId));
+            } catch (Exception deleteFailure) {
+                log.error("참가자 필터 삭제 실패: eventId={}", eventId, deleteFailure);
+            }
+        }
+    }
+
+    public void add(Long eventId, PhoneKey phoneKey) {
+        add(eventId, List.of(phoneKey));
+    }
+
+    /**
+     * 필터 상태 (크기 / 오탐률 / 조회 건수)
+     * - 켜진 비트 비율로 현재 오탐률과 적재 건수를 추정 (비트맵 전체를 읽으므로 모니터링 주기로만 호출)
+     * - 조회 / 생략 건수는 노드별 누적값
+     */
+    public ParticipantFilterResponse getStatus(Long eventId) {
+        long setBits = 0;
+        boolean ready = false;
+        if (enabled) {
+            ready = isReady(eventId);
+            setBits = store.countBits(key(eventId)) - (ready ? 1 : 0);
+        }
+        double fill = (double) setBits / bits;
+        long estimatedInsertions = fill >= 1 ? -1 : Math.round(-(double) bits / hashes * Math.log(1 - fill));
+
+        return new ParticipantFilterResponse(eventId, enabled, ready, targets.containsKey(eventId),
+                bits, hashes, (bits + 1 + 7) / 8, expectedInsertions, falsePositiveRate,
+                setBits, estimatedInsertions, Math.pow(fill, hashes),
+                checks.sum(), negatives.sum(), unavailable.sum());
+    }
+
+    private void build(Long eventId) {
+        if (!building.add(eventId)) return;
+
+        Thread thread = new Thread(() -> {
+            long started = System.currentTimeMillis();
+            try {
+                boolean byHmac = verificationService.getPhoneHashMode() != PhoneHashMode.LEGACY;
+                long afterId = 0;
+                long loaded = 0;
+                while (true) {
+                    List<Participant> page = participantMapper.findPhoneKeysAfter(eventId, afterId, PAGE_SIZE);
+                    if (page.isEmpty()) break;
+
+                    long[] offsets = new long[page.size() * hashes];
+                    int next = 0;
+                    for (Participant participant : page) {
+                        long[] key = byHmac && participant.getPhoneHmac() != null
+                                ? keyOf(participant.getPhoneHmac())
+                                : participant.getPhoneHash() != null ? keyOf(participant.getPhoneHash()) : null;
+                        if (key == null) continue;  // 현재 모드로는 DB에서도 찾을 수 없는 행
+                        next = fillOffsets(offsets, next, key);
+                    }
+                    store.setBits(key(eventId), bits + 1, next == offsets.length ? offsets : Arrays.copyOf(offsets, next));
+
+                    loaded += page.size();
+                    afterId = page.get(page.size() - 1).getParticipantId();
+                }
+
+                store.setBits(key(eventId), bits + 1, new long[]{bits});
+                store.expire(key(eventId), RETENTION);
+                log.info("참가자 필터 적재 완료: eventId={}, participants={}, bits={}, hashes={}, elapsedMs={}",
+                        eventId, loaded, bits, hashes, System.currentTimeMillis() - started);
+            } catch (Exception e) {
+                log.error("참가자 필터 적재 실패: eventId={}", eventId, e);
+            } finally {
+                building.remove(eventId);
+            }
+        }, "participant-filter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private boolean isReady(Long eventId) {
+        return store.getBits(key(eventId), bits + 1, new long[]{bits})[0];
+    }
+
+    // {eventId} 해시 태그 + 모드 / 크기 (설정이 바뀌면 다른 키)
+    private String key(Long eventId) {
+        return "participant-filter:{" + eventId + "}:" + verificationService.getPhoneHashMode() + ":" + bits + ":" + hashes;
+    }
+
+    /**
+     * 이중 해싱 (Kirsch-Mitzenmacher) - 위치 i = (h1 + i·h2) mod m
+     */
+    private int fillOffsets(long[] offsets, int from, long[] key) {
+        long h1 = key[0];
+        long h2 = key[1] | 1;
+        for (int i = 0; i < hashes; i++) {
+            offsets[from + i] = Long.remainderUnsigned(h1 + i * h2, bits);
+        }
+        return from + hashes;
+    }
+
+    private static boolean allSet(boolean[] values, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            if (!values[i]) return false;
+        }
+        return true;
+    }
+
+    // phone_hmac 앞 16바이트 (16 / 32바이트 저장 모두 같은 값)
+    private static long[] keyOf(byte[] hmac) {
+        long h1 = 0;
+        long h2 = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            h1 = (h1 << 8) | (hmac[i] & 0xFF);
+            h2 = (h2 << 8) | (hmac[Long.BYTES + i] & 0xFF);
+        }
+        return new long[]{h1, h2};
+    }
+
+    // phone_hash(SHA-256 hex) 앞 32자리 = 앞 16바이트
+    private static long[] keyOf(String hash) {
+        return new long[]{Long.parseUnsignedLong(hash, 0, 16, 16), Long.parseUnsignedLong(hash, 16, 32, 16)};
+    }
+
+    private record Target(LocalDateTime announceStartAt, LocalDateTime announceEndAt) {
+    }
+}
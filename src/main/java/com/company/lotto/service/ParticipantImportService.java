@@ -0,0 +1,229 @@
+package com.company.lotto.service;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.ParticipantImport;
+import com.company.lotto.domain.ParticipantImport.ImportStatus;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.ParticipantImportMapper;
+import com.company.lotto.service.TicketBatchIssuer.IssueRow;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 참가자 일괄 등록(CSV)
+ *
+ * - 파트너 CSV(첫 번째 컬럼 = 휴대폰 번호)를 한 줄씩 스트리밍으로 읽어 청크 단위로 저장
+ * - 인증 절차 없이 관리자가 사전 등록하는 용도
+ * - 정규화/해시/암호화는 청크 안에서 병렬 처리, DB 저장은 청크당 트랜잭션 1개
+ * - 청크마다 processed_lines를 체크포인트로 기록 → 실패 시 같은 파일을 importId와 함께 다시 올리면 이어서 처리
+ * - 노드가 죽어 RUNNING으로 남은 작업은 STALE_AFTER 동안 갱신이 없으면 재개 요청으로 인수 (조건부 UPDATE, 1건만 성공)
+ */
+@Slf4j
+@Service
+public class ParticipantImportService {
+
+    // 청크 DB 저장 재시도 횟수 (같은 번호 온라인 참가와 충돌 시)
+    private static final int MAX_RETRIES = 3;
+
+    // RUNNING 상태가 이 시간 이상 갱신되지 않으면 재개 요청으로 인수 (청크마다 갱신)
+    private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+    private final EventMapper eventMapper;
+    private final ParticipantImportMapper participantImportMapper;
+    private final ParticipantImportWriter participantImportWriter;
+    private final VerificationService verificationService;
+
+    // 한 트랜잭션에서 저장할 라인 수
+    private final int chunkSize;
+
+    // 일괄 등록 작업은 한 번에 하나씩 순서대로 실행 (같은 이벤트 ticket_sequence 행 잠금 대기 방지)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "participant-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ParticipantImportService(
+            EventMapper eventMapper,
+            ParticipantImportMapper participantImportMapper,
+            ParticipantImportWriter participantImportWriter,
+            VerificationService verificationService,
+            @Value("${participant.import.chunk-size:1000}") int chunkSize) {
+        this.eventMapper = eventMapper;
+        this.participantImportMapper = participantImportMapper;
+        this.participantImportWriter = participantImportWriter;
+        this.verificationService = verificationService;
+        this.chunkSize = chunkSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 일괄 등록 시작 (또는 재개)
+     *
+     * - 업로드 파일을 임시 파일로 옮긴 뒤 백그라운드에서 처리하고, 작업 정보를 바로 반환
+     * - resumeImportId가 있으면 해당 작업의 processed_lines 이후부터 이어서 처리
+     *   (FAILED 또는 STALE_AFTER 동안 갱신 없는 RUNNING만, 인수 UPDATE가 1행일 때만 작업자 시작)
+     */
+    public ParticipantImport startImport(Long eventId, Long resumeImportId, MultipartFile file) {
+        Event event = eventMapper.findById(eventId);
+        if (event == null) {
+            throw new IllegalArgumentException("존재하지 않는 이벤트입니다.");
+        }
+        if (event.getStatus() != Event.EventStatus.READY && event.getStatus() != Event.EventStatus.ACTIVE) {
+            throw new IllegalStateException("READY/ACTIVE 상태의 이벤트만 일괄 등록할 수 있습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ParticipantImport job;
+        if (resumeImportId != null) {
+            job = participantImportMapper.findById(resumeImportId);
+            if (job == null || !job.getEventId().equals(eventId)) {
+                throw new IllegalArgumentException("존재하지 않는 일괄 등록 작업입니다.");
+            }
+            if (participantImportMapper.takeOver(job.getImportId(), now.minus(STALE_AFTER), now) != 1) {
+                throw new IllegalStateException("실패했거나 " + STALE_AFTER.toMinutes() + "분 이상 멈춘 작업만 재개할 수 있습니다.");
+            }
+            // 인수 직전까지 진행된 체크포인트부터 재개
+            job = participantImportMapper.findById(resumeImportId);
+        } else {
+            job = new ParticipantImport();
+            job.setEventId(eventId);
+            job.setFileName(file.getOriginalFilename());
+            job.setStatus(ImportStatus.RUNNING);
+            job.setCreatedAt(now);
+            job.setUpdatedAt(now);
+            participantImportMapper.insert(job);
+            job.setProcessedLines(0L);
+            job.setImportedRows(0L);
+            job.setSkippedRows(0L);
+        }
+
+        // 요청이 끝나면 multipart 임시 파일이 지워지므로 별도 임시 파일로 이동
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("participant-import-", ".csv");
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            participantImportMapper.updateStatus(job.getImportId(), ImportStatus.FAILED.name(), "파일 저장 실패", now);
+            throw new UncheckedIOException(e);
+        }
+
+        Long importId = job.getImportId();
+        long skipLines = job.getProcessedLines();
+        executor.submit(() -> run(event, importId, skipLines, tempFile));
+        return job;
+    }
+
+    public ParticipantImport getImport(Long eventId, Long importId) {
+        ParticipantImport job = participantImportMapper.findById(importId);
+        if (job == null || !job.getEventId().equals(eventId)) return null;
+        return job;
+    }
+
+    /**
+     * 파일을 한 줄씩 읽어 청크 단위로 저장
+     */
+    private void run(Event event, Long importId, long skipLines, Path file) {
+        long lineNo = 0;
+        long checkpoint = skipLines;
+        List<String> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo <= skipLines) continue; // 이전 실행에서 이미 처리한 라인
+
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    processChunk(event, importId, chunk, checkpoint, lineNo);
+                    checkpoint = lineNo;
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(event, importId, chunk, checkpoint, lineNo);
+            }
+
+            participantImportMapper.updateStatus(importId, ImportStatus.COMPLETED.name(), null, LocalDateTime.now());
+            log.info("참가자 일괄 등록 완료: importId={}, eventId={}, lines={}", importId, event.getEventId(), lineNo);
+        } catch (ParticipantImportWriter.TakenOverException e) {
+            log.warn("참가자 일괄 등록 중단 (다른 작업자가 인수): importId={}, line={}", importId, lineNo);
+        } catch (Exception e) {
+            log.error("참가자 일괄 등록 실패: importId={}, line={}", importId, lineNo, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            participantImportMapper.updateStatus(importId, ImportStatus.FAILED.name(),
+                    message.length() > 500 ? message.substring(0, 500) : message, LocalDateTime.now());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 청크 1개 처리
+     * - 라인 파싱 + 정규화/해시/암호화는 병렬 (CPU 작업)
+     * - DB 저장은 ParticipantImportWriter에서 트랜잭션 1개로 처리, ticket_seq 충돌 시 재시도
+     */
+    private void processChunk(Event event, Long importId, List<String> lines, long fromLine, long lastLine) {
+        List<IssueRow> rows = lines.parallelStream()
+                .map(this::toRow)
+                .filter(Objects::nonNull)
+                .toList();
+        int invalidRows = lines.size() - rows.size();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                participantImportWriter.writeChunk(event, importId, rows, fromLine, lastLine, invalidRows);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MAX_RETRIES - 1) throw e;
+            }
+        }
+    }
+
+    /**
+     * CSV 라인 → IssueRow
+     * - 첫 번째 컬럼만 사용, 숫자만 남긴 뒤 0으로 시작하는 10~11자리만 허용 (헤더/잘못된 번호는 건너뜀)
+     */
+    private IssueRow toRow(String line) {
+        int comma = line.indexOf(',');
+        String column = comma < 0 ? line : line.substring(0, comma);
+
+        byte[] digits = PhoneCrypto.normalize(column);
+        if (digits.length < 10 || digits.length > 11 || digits[0] != '0') {
+            return null;
+        }
+        String phoneNumber = new String(digits, StandardCharsets.US_ASCII);
+
+        return new IssueRow(
+                verificationService.phoneKey(phoneNumber),
+                verificationService.encryptPhone(phoneNumber),
+                phoneNumber.substring(phoneNumber.length() - 4)
+        );
+    }
+}
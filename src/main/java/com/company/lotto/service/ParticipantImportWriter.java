@@ -0,0 +1,122 @@
+package com.company.lotto.service;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.repository.ParticipantImportMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import com.company.lotto.service.TicketBatchIssuer.IssueRow;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 참가자 일괄 등록 - 청크 1개를 한 트랜잭션으로 저장
+ *
+ * ParticipantImportService에서 호출 (트랜잭션 프록시 적용을 위해 별도 빈으로 분리)
+ */
+@Service
+@RequiredArgsConstructor
+public class ParticipantImportWriter {
+
+    private final ParticipantMapper participantMapper;
+    private final ParticipantImportMapper participantImportMapper;
+    private final VerificationService verificationService;
+    private final TicketBatchIssuer ticketBatchIssuer;
+
+    /**
+     * 청크 저장
+     *
+     * 핵심 흐름:
+     * 1) 청크 내 중복 번호 + 이미 참가한 번호 제외
+     * 2) ticket_seq를 청크 크기만큼 한 번에 예약 (ticket_sequence - 온라인 참가와 겹치지 않음)
+     * 3) participant multi-row INSERT → ticket_seq 구간으로 participant_id 재조회
+     * 4) 자격 등수 조합별로 슬롯을 한 번에 N개 잠금 조회 → 일괄 사용 처리
+     * 5) lotto_ticket multi-row INSERT
+     *    (2~5는 TicketBatchIssuer - 동시 참가 묶음 저장과 공용)
+     * 6) 체크포인트(processed_lines) 갱신 - 위 작업과 같은 트랜잭션이라 재개 시 중복/누락 없음
+     *
+     * 휴대폰 번호 충돌(청크 확인 이후 같은 번호가 온라인 참가) 시 DuplicateKeyException → 호출 측에서 청크 단위 재시도
+     * 체크포인트가 fromLine이 아니면(다른 작업자가 인수) TakenOverException → 청크 롤백 후 작업자 종료
+     */
+    @Transactional
+    public int writeChunk(Event event, Long importId, List<IssueRow> rows, long fromLine, long lastLine,
+                          int invalidRows) {
+        Long eventId = event.getEventId();
+        PhoneHashMode mode = verificationService.getPhoneHashMode();
+
+        // 1) 청크 내 중복 제거 + 기존 참가자 제외
+        List<IssueRow> fresh = excludeExisting(eventId, mode, rows);
+        int skipped = invalidRows + (rows.size() - fresh.size());
+
+        if (fresh.isEmpty()) {
+            checkpoint(importId, fromLine, lastLine, 0, skipped, LocalDateTime.now());
+            return 0;
+        }
+
+        // 2~5) ticket_seq 블록 할당 + participant / lotto_ticket 대량 저장
+        LocalDateTime now = LocalDateTime.now();
+        ticketBatchIssuer.issue(event, fresh, now);
+
+        // 6) 체크포인트
+        checkpoint(importId, fromLine, lastLine, fresh.size(), skipped, now);
+        return fresh.size();
+    }
+
+    private void checkpoint(Long importId, long fromLine, long lastLine, int imported, int skipped,
+                            LocalDateTime now) {
+        if (participantImportMapper.updateProgress(importId, fromLine, lastLine, imported, skipped, now) == 0) {
+            throw new TakenOverException(importId);
+        }
+    }
+
+    /**
+     * 다른 작업자가 작업을 인수해서 체크포인트가 바뀜 (이 작업자는 상태를 건드리지 않고 종료)
+     */
+    static class TakenOverException extends IllegalStateException {
+        TakenOverException(Long importId) {
+            super("다른 작업자가 인수한 일괄 등록 작업입니다: importId=" + importId);
+        }
+    }
+
+    /**
+     * 청크 내 중복 번호와 이미 참가한 번호를 제외
+     * - HMAC 모드는 phone_hmac, 그 외는 phone_hash 기준 (DUAL 모드 신규 행도 phone_hash를 함께 저장)
+     */
+    private List<IssueRow> excludeExisting(Long eventId, PhoneHashMode mode, List<IssueRow> rows) {
+        Map<Object, IssueRow> unique = new LinkedHashMap<>();
+        for (IssueRow row : rows) {
+            unique.putIfAbsent(keyOf(mode, row.phoneKey()), row);
+        }
+        if (unique.isEmpty()) return List.of();
+
+        Set<Object> existing = new HashSet<>();
+        if (mode == PhoneHashMode.HMAC) {
+            List<byte[]> hmacs = unique.values().stream().map(r -> r.phoneKey().hmac()).toList();
+            for (byte[] hmac : participantMapper.findExistingPhoneHmacs(eventId, hmacs)) {
+                existing.add(ByteBuffer.wrap(hmac));
+            }
+        } else {
+            List<String> hashes = unique.values().stream().map(r -> r.phoneKey().hash()).toList();
+            existing.addAll(participantMapper.findExistingPhoneHashes(eventId, hashes));
+        }
+
+        List<IssueRow> fresh = new ArrayList<>(unique.size());
+        for (Map.Entry<Object, IssueRow> entry : unique.entrySet()) {
+            if (!existing.contains(entry.getKey())) {
+                fresh.add(entry.getValue());
+            }
+        }
+        return fresh;
+    }
+
+    private Object keyOf(PhoneHashMode mode, PhoneKey phoneKey) {
+        return mode == PhoneHashMode.HMAC ? ByteBuffer.wrap(phoneKey.hmac()) : phoneKey.hash();
+    }
+}
@@ -0,0 +1,51 @@
+package com.company.lotto.service;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.LottoTicket;
+import com.company.lotto.dto.lotto.ParticipateResponse;
+import com.company.lotto.service.ParticipateBatcher.PendingParticipation;
+import com.company.lotto.service.SmsDispatcher.SmsMessage;
+import com.company.lotto.service.TicketBatchIssuer.IssueRow;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 동시 참가 묶음 저장 - 묶음 1개를 한 트랜잭션(커밋 1번)으로 저장
+ *
+ * ParticipateBatcher에서 호출 (트랜잭션 프록시 적용을 위해 별도 빈으로 분리)
+ */
+@Service
+@RequiredArgsConstructor
+public class ParticipateBatchWriter {
+
+    private final TicketBatchIssuer ticketBatchIssuer;
+    private final SmsDispatcher smsDispatcher;
+
+    /**
+     * @return pending과 같은 순서의 참가 응답
+     */
+    @Transactional
+    public List<ParticipateResponse> write(Event event, List<PendingParticipation> pending) {
+        List<IssueRow> rows = pending.stream().map(PendingParticipation::row).toList();
+        List<LottoTicket> tickets = ticketBatchIssuer.issue(event, rows, LocalDateTime.now());
+
+        List<ParticipateResponse> responses = new ArrayList<>(pending.size());
+        List<SmsMessage> messages = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            LottoTicket ticket = tickets.get(i);
+            List<Integer> lottoNumbers = ticket.getNumbers().toList();
+
+            messages.add(LottoService.ticketSms(
+                    ticket.getParticipantId(), pending.get(i).phoneNumber(), event, lottoNumbers));
+            responses.add(LottoService.issuedResponse(lottoNumbers, rows.get(i).phoneLast4()));
+        }
+
+        // sms_log는 같은 트랜잭션에서 multi-row INSERT 1번, 큐에는 커밋 후 적재
+        smsDispatcher.enqueueAll(messages);
+        return responses;
+    }
+}
@@ -0,0 +1,282 @@
+package com.company.lotto.service;
+
+import com.company.lotto.config.ErrorCode;
+import com.company.lotto.config.LottoException;
+import com.company.lotto.domain.Event;
+import com.company.lotto.dto.lotto.ParticipateResponse;
+import com.company.lotto.service.TicketBatchIssuer.IssueRow;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 참가 처리 묶음 커밋 (처리량 모드, participate.batch.enabled)
+ *
+ * 흐름:
+ * 1) 요청 스레드에서 인증/이벤트/기존 발급 확인 + 해시/암호화 (트랜잭션 없음)
+ * 2) 신규 발급 요청만 큐에 넣고 결과 future를 기다림
+ * 3) 묶음 스레드가 첫 요청 이후 window-ms 동안(최대 max-size건) 모은 요청을
+ *    ParticipateBatchWriter로 한 트랜잭션에 저장 (ticket_seq / 슬롯 블록 할당 + multi-row INSERT, 커밋 1번)
+ * 4) 요청별 future 완료
+ *
+ * ticket_seq 구간은 ticket_sequence 행으로 예약하므로 다른 노드 / 단건 참가 / 일괄 등록과 겹치지 않음
+ * 묶음이 실패하면(묶음 밖에서 같은 번호가 먼저 참가, 슬롯 부족 등)
+ * 묶음 안의 요청을 단건 처리 스레드 풀(fallback-threads개)에서 기존 단건 트랜잭션으로 다시 처리
+ * → 실패는 해당 요청에만 전달, 묶음 스레드는 바로 다음 묶음을 처리
+ *
+ * 대기 시간(timeout-ms) 초과 시 future를 취소해서 아직 묶이지 않은 요청은 묶음 스레드가 건너뛰게 하고,
+ * 이미 저장 중이었을 수 있으므로 기존 발급을 다시 확인한 뒤에만 실패 응답
+ */
+@Slf4j
+@Service
+public class ParticipateBatcher {
+
+    private final LottoService lottoService;
+    private final VerificationService verificationService;
+    private final ParticipateBatchWriter batchWriter;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxSize;
+    private final long timeoutMillis;
+
+    private final BlockingQueue<PendingParticipation> queue;
+    private final Thread worker;
+
+    // 묶음 실패 시 단건 재처리 (묶음 스레드를 막지 않도록 분리)
+    private final ExecutorService fallbackPool;
+
+    /**
+     * 묶음 대기 중인 참가 요청 1건
+     */
+    public record PendingParticipation(String phoneNumber, Long verificationId, Event event, IssueRow row,
+                                       CompletableFuture<ParticipateResponse> result) {
+    }
+
+    public ParticipateBatcher(
+            LottoService lottoService,
+            VerificationService verificationService,
+            ParticipateBatchWriter batchWriter,
+            @Value("${participate.batch.enabled:false}") boolean enabled,
+            @Value("${participate.batch.window-ms:2}") long windowMs,
+            @Value("${participate.batch.max-size:200}") int maxSize,
+            @Value("${participate.batch.queue-capacity:10000}") int queueCapacity,
+            @Value("${participate.batch.timeout-ms:5000}") long timeoutMillis,
+            @Value("${participate.batch.fallback-threads:8}") int fallbackThreads) {
+        this.lottoService = lottoService;
+        this.verificationService = verificationService;
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxSize = maxSize;
+        this.timeoutMillis = timeoutMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.fallbackPool = Executors.newFixedThreadPool(fallbackThreads, r -> {
+            Thread thread = new Thread(r, "participate-fallback-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.worker = new Thread(this::run, "participate-batcher");
+        this.worker.setDaemon(true);
+        if (enabled) {
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.interrupt();
+        fallbackPool.shutdownNow();
+    }
+
+    /**
+     * 참가 처리 - 처리량 모드가 꺼져 있으면 단건 트랜잭션(LottoService.participate)
+     */
+    public ParticipateResponse participate(String phoneNumber, Long eventId, Long verificationId) {
+        if (!enabled) {
+            return lottoService.participate(phoneNumber, eventId, verificationId);
+        }
+
+        Event event = lottoService.checkParticipable(eventId, verificationId);
+        PhoneKey phoneKey = verificationService.phoneKey(phoneNumber);
+        ParticipateResponse issued = lottoService.findIssued(phoneNumber, phoneKey, eventId);
+        if (issued != null) {
+            return issued;
+        }
+
+        IssueRow row = new IssueRow(phoneKey, verificationService.encryptPhone(phoneNumber),
+                phoneNumber.substring(phoneNumber.length() - 4));
+        PendingParticipation pending = new PendingParticipation(
+                phoneNumber, verificationId, event, row, new CompletableFuture<>());
+
+        // 큐가 가득 차면 묶지 않고 바로 단건 처리
+        if (!queue.offer(pending)) {
+            return lottoService.participate(phoneNumber, eventId, verificationId);
+        }
+        return await(pending, phoneKey);
+    }
+
+    private ParticipateResponse await(PendingParticipation pending, PhoneKey phoneKey) {
+        CompletableFuture<ParticipateResponse> result = pending.result();
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            return abandon(pending, phoneKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abandon(pending, phoneKey);
+        }
+    }
+
+    /**
+     * 대기 포기
+     * - 취소에 성공하면 아직 묶이지 않은 요청은 묶음 스레드가 건너뜀
+     * - 취소 직전에 결과가 나왔으면 그 결과로 응답
+     * - 이미 묶음 / 단건 처리 중이었으면 커밋됐을 수 있으므로 기존 발급을 확인하고, 없을 때만 실패
+     */
+    private ParticipateResponse abandon(PendingParticipation pending, PhoneKey phoneKey) {
+        if (!pending.result().cancel(false)) {
+            try {
+                return pending.result().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw e;
+            }
+        }
+        ParticipateResponse issued = lottoService.findIssuedInDb(
+                pending.phoneNumber(), phoneKey, pending.event().getEventId());
+        if (issued != null) {
+            return issued;
+        }
+        throw LottoException.of(ErrorCode.PARTICIPATE_CONFLICT);
+    }
+
+    private void run() {
+        List<PendingParticipation> batch = new ArrayList<>(maxSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // 첫 요청이 오면 window 동안 더 모음
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingParticipation next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("참가 묶음 처리 실패: size={}", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingParticipation> batch) {
+        Map<Long, List<PendingParticipation>> byEvent = new LinkedHashMap<>();
+        for (PendingParticipation pending : batch) {
+            byEvent.computeIfAbsent(pending.event().getEventId(), k -> new ArrayList<>()).add(pending);
+        }
+        for (List<PendingParticipation> group : byEvent.values()) {
+            write(group);
+        }
+    }
+
+    /**
+     * 이벤트 1개의 요청 묶음 저장
+     * - 같은 번호가 묶음 안에 여러 번 있으면 첫 요청만 발급하고, 나머지는 그 결과를 기존 발급으로 응답
+     */
+    private void write(List<PendingParticipation> group) {
+        Map<String, PendingParticipation> unique = new LinkedHashMap<>();
+        List<PendingParticipation> duplicates = new ArrayList<>();
+        for (PendingParticipation pending : group) {
+            // 대기 시간을 넘겨 요청 스레드가 포기한 요청은 저장하지 않음
+            if (pending.result().isCancelled()) continue;
+            if (unique.putIfAbsent(pending.row().phoneKey().hash(), pending) != null) {
+                duplicates.add(pending);
+            }
+        }
+
+        List<PendingParticipation> rows = new ArrayList<>(unique.values());
+        if (rows.isEmpty()) return;
+        try {
+            List<ParticipateResponse> responses = batchWriter.write(rows.get(0).event(), rows);
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).result().complete(responses.get(i));
+            }
+        } catch (Exception e) {
+            log.debug("참가 묶음 커밋 실패 → 단건 처리: eventId={}, size={}, cause={}",
+                    rows.get(0).event().getEventId(), rows.size(), e.toString());
+            for (PendingParticipation pending : rows) {
+                participateOneAsync(pending);
+            }
+        }
+
+        for (PendingParticipation duplicate : duplicates) {
+            PendingParticipation first = unique.get(duplicate.row().phoneKey().hash());
+            first.result().whenComplete((response, error) -> {
+                if (first.result().isCancelled()) {
+                    // 첫 요청이 대기를 포기함 - 이 요청은 단건으로 처리 (이미 커밋됐으면 기존 발급 응답)
+                    participateOneAsync(duplicate);
+                } else if (error != null) {
+                    duplicate.result().completeExceptionally(error);
+                } else {
+                    duplicate.result().complete(asAlreadyIssued(response));
+                }
+            });
+        }
+    }
+
+    private void participateOneAsync(PendingParticipation pending) {
+        try {
+            fallbackPool.execute(() -> participateOne(pending));
+        } catch (RejectedExecutionException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private void participateOne(PendingParticipation pending) {
+        if (pending.result().isCancelled()) return;
+        try {
+            pending.result().complete(lottoService.participate(
+                    pending.phoneNumber(), pending.event().getEventId(), pending.verificationId()));
+        } catch (Exception e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private ParticipateResponse asAlreadyIssued(ParticipateResponse issued) {
+        ParticipateResponse response = new ParticipateResponse();
+        response.setLottoNumbers(issued.getLottoNumbers());
+        response.setPhoneLast4(issued.getPhoneLast4());
+        response.setMessage("이미 발급된 로또 번호입니다.");
+        response.setAlreadyIssued(true);
+        return response;
+    }
+}
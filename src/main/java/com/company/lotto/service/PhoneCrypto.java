@@ -0,0 +1,178 @@
+package com.company.lotto.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 전화번호 해시/암호화 전용 헬퍼
+ *
+ * - MessageDigest, Cipher는 스레드 안전하지 않으므로 스레드별(ThreadLocal)로 1개씩 재사용
+ * - SecureRandom은 스레드 안전하므로 인스턴스 1개를 공유
+ * - salt/pepper는 생성 시 1번만 바이트로 변환해두고, 해시 시에는 update()로 이어붙임
+ *   (SALT + normalized + pepper 문자열을 UTF-8로 인코딩한 것과 바이트 단위로 동일 → 기존 phone_hash 그대로 매칭)
+ */
+final class PhoneCrypto {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String AES_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int GCM_IV_LENGTH = 12;   // GCM 권장 IV 길이(12 bytes)
+    private static final int GCM_TAG_LENGTH = 128; // 인증 태그 길이(비트 단위)
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> newInstance(HASH_ALGORITHM));
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(AES_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(AES_ALGORITHM + " not available", e);
+        }
+    });
+
+    private final byte[] saltBytes;
+    private final byte[] pepperBytes;
+    private final SecretKeySpec encryptionKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // pepper를 키로 쓰는 HMAC - 키가 인스턴스마다 다르므로 인스턴스 단위 ThreadLocal
+    private final ThreadLocal<Mac> mac;
+
+    PhoneCrypto(String salt, String pepper, String encryptKey) {
+        this.saltBytes = salt.getBytes(StandardCharsets.UTF_8);
+        this.pepperBytes = pepper.getBytes(StandardCharsets.UTF_8);
+        SecretKeySpec hmacKey = new SecretKeySpec(pepperBytes, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(hmacKey);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new RuntimeException(HMAC_ALGORITHM + " not available", e);
+            }
+        });
+        // encryptKey 문자열을 그대로 쓰지 않고 SHA-256으로 32바이트 AES 키 파생
+        this.encryptionKey = new SecretKeySpec(
+                newInstance(HASH_ALGORITHM).digest(encryptKey.getBytes(StandardCharsets.UTF_8)), "AES");
+    }
+
+    /**
+     * SHA-256(salt + normalized + pepper) 를 hex 문자열로 반환
+     */
+    String hash(String phoneNumber) {
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        digest.update(saltBytes);
+        digest.update(normalize(phoneNumber));
+        digest.update(pepperBytes);
+        return HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * HMAC-SHA256(key=pepper, normalized) 를 바이너리로 반환
+     * - length가 32 미만이면 앞에서부터 length 바이트만 사용 (prefix 절단)
+     */
+    byte[] hmac(String phoneNumber, int length) {
+        Mac instance = mac.get();
+        byte[] full = instance.doFinal(normalize(phoneNumber));
+        return length >= full.length ? full : Arrays.copyOf(full, length);
+    }
+
+    /**
+     * 암호화된 전화번호와 입력 전화번호가 정규화 기준으로 같은 번호인지 확인
+     * - 절단된 HMAC prefix 충돌 여부 판별용
+     */
+    boolean samePhone(String encryptedPhone, String phoneNumber) {
+        return Arrays.equals(normalize(decrypt(encryptedPhone)), normalize(phoneNumber));
+    }
+
+    /**
+     * AES-GCM 암호화 후 Base64(IV + ciphertext) 반환
+     * - IV는 공유 SecureRandom으로 매번 새로 생성
+     * - 출력 버퍼를 한 번에 잡아 IV 뒤에 바로 암호문을 기록 (중간 배열 복사 없음)
+     */
+    String encrypt(String phoneNumber) {
+        try {
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            secureRandom.nextBytes(iv);
+
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+
+            byte[] plain = phoneNumber.getBytes(StandardCharsets.UTF_8);
+            byte[] combined = new byte[GCM_IV_LENGTH + cipher.getOutputSize(plain.length)];
+            System.arraycopy(iv, 0, combined, 0, GCM_IV_LENGTH);
+            int written = cipher.doFinal(plain, 0, plain.length, combined, GCM_IV_LENGTH);
+
+            if (GCM_IV_LENGTH + written != combined.length) {
+                combined = Arrays.copyOf(combined, GCM_IV_LENGTH + written);
+            }
+            return Base64.getEncoder().encodeToString(combined);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Phone encryption failed", e);
+        }
+    }
+
+    /**
+     * Base64(IV + ciphertext) 복호화
+     * - IV/암호문을 별도 배열로 복사하지 않고 offset으로 바로 사용
+     */
+    String decrypt(String encryptedPhone) {
+        try {
+            byte[] combined = Base64.getDecoder().decode(encryptedPhone);
+
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey,
+                    new GCMParameterSpec(GCM_TAG_LENGTH, combined, 0, GCM_IV_LENGTH));
+
+            byte[] plain = cipher.doFinal(combined, GCM_IV_LENGTH, combined.length - GCM_IV_LENGTH);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new RuntimeException("Phone decryption failed", e);
+        }
+    }
+
+    /**
+     * 전화번호 정규화 (정규식 없이 한 번 순회)
+     *
+     * - ASCII 숫자만 남김 (하이픈, 공백 제거) → 기존 replaceAll("[^0-9]", "")과 동일
+     * - "82"로 시작하면 한국 번호로 보고 "0"으로 치환
+     *   예: 821012345678 -> 01012345678
+     * - 숫자는 모두 ASCII이므로 UTF-8 인코딩 결과를 바로 byte[]로 만든다
+     */
+    static byte[] normalize(String phoneNumber) {
+        int length = phoneNumber.length();
+        byte[] digits = new byte[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits[count++] = (byte) c;
+            }
+        }
+
+        if (count >= 2 && digits[0] == '8' && digits[1] == '2') {
+            digits[1] = '0';
+            return Arrays.copyOfRange(digits, 1, count);
+        }
+        return count == length ? digits : Arrays.copyOf(digits, count);
+    }
+
+    private static MessageDigest newInstance(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(algorithm + " not available", e);
+        }
+    }
+}
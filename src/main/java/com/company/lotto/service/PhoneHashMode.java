@@ -0,0 +1,12 @@
+package com.company.lotto.service;
+
+/**
+ * 전화번호 해시 저장/조회 모드 (phone.hash.mode)
+ *
+ * 마이그레이션 순서: LEGACY -> DUAL -> HMAC
+ */
+public enum PhoneHashMode {
+    LEGACY,     // salted SHA-256 hex(phone_hash)만 저장/조회
+    DUAL,       // phone_hash + phone_hmac 함께 저장, phone_hmac 우선 조회 후 phone_hash로 보조 조회(조회 시 phone_hmac 채움)
+    HMAC        // phone_hmac만 저장/조회 (phone_hash는 NULL, uk_event_phone 제거 가능)
+}
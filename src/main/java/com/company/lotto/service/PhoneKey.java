@@ -0,0 +1,10 @@
+package com.company.lotto.service;
+
+/**
+ * 요청 1건에서 계산한 전화번호 식별값
+ *
+ * @param hash 기존 salted SHA-256 hex (중복 체크 보조 조회, 1등 당첨자 비교용)
+ * @param hmac HMAC-SHA256 바이너리 (LEGACY 모드에서는 null)
+ */
+public record PhoneKey(String hash, byte[] hmac) {
+}
@@ -0,0 +1,207 @@
+package com.company.lotto.service;
+
+import com.company.lotto.config.ReplicaRoutingDataSource;
+import com.company.lotto.domain.PoolCompaction;
+import com.company.lotto.domain.PoolCompaction.CompactionStatus;
+import com.company.lotto.repository.NumberPoolMapper;
+import com.company.lotto.repository.PoolCompactionMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 종료된 이벤트 번호 풀 정리 (백그라운드)
+ *
+ * - ENDED 이후 number_pool 행은 쓰이지 않음 (발급 번호는 lotto_ticket에 복사됨) → 버퍼 풀 / idx_pool_lookup 만 차지
+ * - endActiveEvents 직후 실행, 이벤트마다 pool_id 키셋으로 chunkSize개씩 조회 → 삭제 (청크 1개 = 트랜잭션 1개)
+ * - 청크 사이 pauseMs 쉬고, 복제본 지연이 maxLagMs를 넘으면 줄어들 때까지 대기 (계속 밀리면 다음 실행으로 이월)
+ * - 이벤트별 파티션 모드면 행 삭제 대신 파티션 DROP
+ * - 삭제 행 수 / 추정 회수 용량은 pool_compaction에 누적
+ */
+@Slf4j
+@Service
+public class PoolCompactionService {
+
+    // 행당 추정 크기 - 클러스터드 행(~45B) + idx_pool_lookup 엔트리(~30B) + 페이지 여유
+    static final long ESTIMATED_BYTES_PER_ROW = 80;
+
+    // 1회 실행에서 처리할 최대 이벤트 수
+    private static final int MAX_EVENTS_PER_RUN = 100;
+
+    // 복제 지연 대기 - 1초씩 최대 60번 확인 후 이월
+    private static final long LAG_WAIT_MS = 1_000;
+    private static final int LAG_WAIT_ROUNDS = 60;
+
+    private final NumberPoolMapper numberPoolMapper;
+    private final PoolCompactionMapper poolCompactionMapper;
+    private final EventPartitionService eventPartitionService;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final Clock clock;
+
+    private final int chunkSize;
+    private final long pauseMs;
+    private final long maxLagMs;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PoolCompactionService(
+            NumberPoolMapper numberPoolMapper,
+            PoolCompactionMapper poolCompactionMapper,
+            EventPartitionService eventPartitionService,
+            ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+            Clock clock,
+            @Value("${pool.compaction.chunk-size:1000}") int chunkSize,
+            @Value("${pool.compaction.pause-ms:200}") long pauseMs,
+            @Value("${pool.compaction.max-lag-ms:1000}") long maxLagMs) {
+        this.numberPoolMapper = numberPoolMapper;
+        this.poolCompactionMapper = poolCompactionMapper;
+        this.eventPartitionService = eventPartitionService;
+        this.replicaRouting = replicaRouting;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.maxLagMs = maxLagMs;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "pool-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 정리 대상 이벤트 처리 시작 (이미 실행 중이면 무시)
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 시작 (ENDED 전환이 커밋되기 전에 대상 조회하지 않도록)
+     */
+    public void startDue() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit();
+                }
+            });
+            return;
+        }
+        submit();
+    }
+
+    public PoolCompaction getStatus(Long eventId) {
+        return poolCompactionMapper.findByEventId(eventId);
+    }
+
+    private void submit() {
+        if (!running.compareAndSet(false, true)) return;
+        executor.submit(() -> {
+            try {
+                for (Long eventId : poolCompactionMapper.findDueEventIds(MAX_EVENTS_PER_RUN)) {
+                    if (!compact(eventId)) break;
+                }
+            } catch (Exception e) {
+                log.error("번호 풀 정리 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * 이벤트 1개 정리 - 복제 지연으로 중단하면 false (남은 이벤트도 다음 실행으로)
+     */
+    private boolean compact(Long eventId) {
+        long started = System.currentTimeMillis();
+        try {
+            poolCompactionMapper.insert(eventId, LocalDateTime.now(clock));
+        } catch (DuplicateKeyException ignored) {
+            // 중단된 정리 재개 / 실패 재시도
+            poolCompactionMapper.updateStatus(eventId, CompactionStatus.RUNNING.name(), null, LocalDateTime.now(clock));
+        }
+
+        try {
+            long deleted;
+            if (eventPartitionService.isEnabled()) {
+                deleted = numberPoolMapper.countByEventId(eventId);
+                eventPartitionService.dropPoolPartition(eventId);
+                poolCompactionMapper.addDeleted(eventId, deleted, deleted * ESTIMATED_BYTES_PER_ROW, LocalDateTime.now(clock));
+            } else {
+                deleted = deleteChunks(eventId);
+                if (deleted < 0) {
+                    log.warn("번호 풀 정리 이월 (복제 지연 / 종료): eventId={}", eventId);
+                    return false;
+                }
+            }
+
+            poolCompactionMapper.updateStatus(eventId, CompactionStatus.COMPLETED.name(), null, LocalDateTime.now(clock));
+            log.info("번호 풀 정리 완료: eventId={}, deletedRows={}, reclaimedBytes~{}, elapsedMs={}",
+                    eventId, deleted, deleted * ESTIMATED_BYTES_PER_ROW, System.currentTimeMillis() - started);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("번호 풀 정리 실패: eventId={}", eventId, e);
+            String message = String.valueOf(e.getMessage());
+            poolCompactionMapper.updateStatus(eventId, CompactionStatus.FAILED.name(),
+                    message.length() > 500 ? message.substring(0, 500) : message, LocalDateTime.now(clock));
+            return true;
+        }
+    }
+
+    /**
+     * 키셋 청크 삭제 - 삭제한 행 수, 복제 지연 / 종료로 중단하면 -1
+     */
+    private long deleteChunks(Long eventId) {
+        long afterId = 0;
+        long deleted = 0;
+        while (true) {
+            if (!awaitReplicaLag()) return -1;
+
+            List<Long> poolIds = numberPoolMapper.findPoolIdsAfter(eventId, afterId, chunkSize);
+            if (poolIds.isEmpty()) return deleted;
+
+            int rows = numberPoolMapper.deleteByPoolIds(eventId, poolIds);
+            deleted += rows;
+            afterId = poolIds.get(poolIds.size() - 1);
+            poolCompactionMapper.addDeleted(eventId, rows, rows * ESTIMATED_BYTES_PER_ROW, LocalDateTime.now(clock));
+
+            if (!sleep(pauseMs)) return -1;
+        }
+    }
+
+    /**
+     * 복제본 지연이 maxLagMs 이하가 될 때까지 대기 (복제본 라우팅을 쓰지 않으면 바로 통과)
+     */
+    private boolean awaitReplicaLag() {
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        if (routing == null) return true;
+
+        for (int i = 0; i < LAG_WAIT_ROUNDS; i++) {
+            if (routing.maxReplicaLagMillis() <= maxLagMs) return true;
+            if (!sleep(LAG_WAIT_MS)) return false;
+        }
+        return false;
+    }
+
+    private boolean sleep(long millis) {
+        if (millis <= 0) return true;
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.company.lotto.service;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.NumberPool;
+import com.company.lotto.domain.PoolGeneration;
+import com.company.lotto.domain.PoolGeneration.GenerationStatus;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.NumberPoolMapper;
+import com.company.lotto.repository.PoolGenerationMapper;
+import jakarta.annotation.PreDestroy;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 번호 풀 생성 작업 (백그라운드)
+ *
+ * 흐름:
+ * 1) 이벤트마다 pool_generation 행을 선점 (job_id 발급, seed 저장)
+ * 2) 백그라운드 스레드에서 seed로 풀을 구성하고 chunkSize개씩 INSERT + 체크포인트를 한 트랜잭션으로 커밋
+ * 3) 모두 INSERT되면 작업 COMPLETED + 이벤트 READY -> ACTIVE
+ *
+ * 실패하거나 노드가 죽으면 같은 seed로 풀을 다시 구성해 inserted_slots 이후부터 이어서 INSERT
+ */
+@Slf4j
+@Service
+public class PoolGenerationService {
+
+    // RUNNING 상태가 이 시간 이상 갱신되지 않으면 다른 노드가 인수
+    private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+    private final EventMapper eventMapper;
+    private final NumberPoolMapper numberPoolMapper;
+    private final PoolGenerationMapper poolGenerationMapper;
+    private final NumberPoolService numberPoolService;
+    private final EventPartitionService eventPartitionService;
+    private final Clock clock;
+
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private final SecureRandom seedRandom = new SecureRandom();
+
+    // 이 노드에서 실행 중인 작업 (eventId -> 완료 시점)
+    private final Map<Long, CompletableFuture<Void>> running = new ConcurrentHashMap<>();
+
+    public PoolGenerationService(
+            EventMapper eventMapper,
+            NumberPoolMapper numberPoolMapper,
+            PoolGenerationMapper poolGenerationMapper,
+            NumberPoolService numberPoolService,
+            EventPartitionService eventPartitionService,
+            Clock clock,
+            @Value("${pool.generation.chunk-size:1000}") int chunkSize,
+            @Value("${pool.generation.concurrency:2}") int concurrency) {
+        this.eventMapper = eventMapper;
+        this.numberPoolMapper = numberPoolMapper;
+        this.poolGenerationMapper = poolGenerationMapper;
+        this.numberPoolService = numberPoolService;
+        this.eventPartitionService = eventPartitionService;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "pool-generation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 번호 풀 생성 시작 (또는 재개)
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 실행 (event / pool_generation 행이 커밋되기 전에 INSERT하지 않도록)
+     * - 이미 완료됐거나 다른 노드가 실행 중이면 현재 상태만 반환
+     */
+    public PoolGeneration start(Long eventId) {
+        Event event = eventMapper.findById(eventId);
+        if (event == null) {
+            throw new IllegalArgumentException("존재하지 않는 이벤트입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        PoolGeneration job = poolGenerationMapper.findByEventId(eventId);
+        if (job == null) {
+            validateStatus(event);
+            PoolGeneration created = create(eventId, now);
+            if (created == null) return poolGenerationMapper.findByEventId(eventId);
+            if (created.getStatus() == GenerationStatus.RUNNING) submitAfterCommit(created);
+            return created;
+        }
+
+        if (job.getStatus() == GenerationStatus.COMPLETED || running.containsKey(eventId)) return job;
+
+        validateStatus(event);
+        if (poolGenerationMapper.takeOver(job.getJobId(), now.minus(STALE_AFTER), now) == 0) return job;
+
+        // 인수 직전까지 진행된 체크포인트부터 재개
+        job = poolGenerationMapper.findByEventId(eventId);
+        submitAfterCommit(job);
+        return job;
+    }
+
+    public PoolGeneration getStatus(Long eventId) {
+        return poolGenerationMapper.findByEventId(eventId);
+    }
+
+    /**
+     * 이 노드에서 실행 중인 작업이 끝날 때 완료되는 future (실행 중이 아니면 이미 완료된 future)
+     */
+    public CompletableFuture<Void> completion(Long eventId) {
+        return running.getOrDefault(eventId, CompletableFuture.completedFuture(null));
+    }
+
+    private void validateStatus(Event event) {
+        Event.EventStatus status = event.getStatus();
+        if (status != Event.EventStatus.READY && status != Event.EventStatus.ACTIVE) {
+            throw new IllegalStateException("READY/ACTIVE 상태의 이벤트만 슬롯을 생성할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 작업 행 생성
+     * - 작업 테이블 도입 전에 이미 풀이 만들어진 이벤트는 COMPLETED로 등록 (다시 만들지 않음)
+     * - 동시에 다른 요청이 먼저 만들었으면 null (그 요청이 실행)
+     */
+    private PoolGeneration create(Long eventId, LocalDateTime now) {
+        int existing = numberPoolMapper.countByEventId(eventId);
+
+        PoolGeneration job = new PoolGeneration();
+        job.setEventId(eventId);
+        job.setStatus(existing > 0 ? GenerationStatus.COMPLETED : GenerationStatus.RUNNING);
+        job.setSeed(seedRandom.nextLong());
+        job.setTotalSlots(existing > 0 ? existing : numberPoolService.getTotalSlots());
+        job.setInsertedSlots(existing);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        try {
+            poolGenerationMapper.insert(job);
+            return job;
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+
+    private void submitAfterCommit(PoolGeneration job) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        if (running.putIfAbsent(job.getEventId(), done) != null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(job, done);
+                    } else {
+                        running.remove(job.getEventId());
+                        done.complete(null);
+                    }
+                }
+            });
+            return;
+        }
+        submit(job, done);
+    }
+
+    private void submit(PoolGeneration job, CompletableFuture<Void> done) {
+        executor.submit(() -> {
+            try {
+                generate(job);
+            } catch (Exception e) {
+                log.error("번호 풀 생성 실패: jobId={}, eventId={}", job.getJobId(), job.getEventId(), e);
+                String message = String.valueOf(e.getMessage());
+                poolGenerationMapper.updateStatus(job.getJobId(), GenerationStatus.FAILED.name(),
+                        message.length() > 500 ? message.substring(0, 500) : message, LocalDateTime.now(clock));
+            } finally {
+                running.remove(job.getEventId());
+                done.complete(null);
+            }
+        });
+    }
+
+    private void generate(PoolGeneration job) {
+        long started = System.currentTimeMillis();
+
+        // 이벤트별 파티션 모드면 INSERT 전에 파티션 추가 (DDL - 청크 트랜잭션 밖)
+        eventPartitionService.ensurePartitions(job.getEventId());
+
+        // 같은 seed → 같은 풀 → inserted_slots 이후만 INSERT
+        List<NumberPool> pools = numberPoolService.buildPool(job.getEventId(), job.getSeed());
+        int inserted = job.getInsertedSlots();
+
+        for (int i = inserted; i < pools.size(); i += chunkSize) {
+            int end = Math.min(i + chunkSize, pools.size());
+            numberPoolService.writeChunk(job.getJobId(), pools.subList(i, end), end);
+        }
+
+        numberPoolService.complete(job.getJobId(), job.getEventId(), numberPoolService.winningNumbers(job.getSeed()));
+        log.info("번호 풀 생성 완료: jobId={}, eventId={}, resumedFrom={}, elapsedMs={}",
+                job.getJobId(), job.getEventId(), inserted, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,188 @@
+package com.company.lotto.service;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.Participant;
+import com.company.lotto.domain.ReminderProgress;
+import com.company.lotto.domain.ReminderProgress.ReminderStatus;
+import com.company.lotto.domain.SmsLog.SmsType;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import com.company.lotto.repository.ReminderProgressMapper;
+import com.company.lotto.scheduler.EventTransition;
+import com.company.lotto.service.SmsDispatcher.RecordedSms;
+import com.company.lotto.service.SmsDispatcher.SmsMessage;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결과 발표 안내(REMINDER) SMS 일괄 발송
+ *
+ * 흐름:
+ * 1) 발표 기간에 들어선 이벤트마다 reminder_progress 행을 선점 (노드 1개만 실행)
+ * 2) participant를 participant_id 키셋 페이징으로 pageSize개씩 조회
+ * 3) 페이지 안에서 전화번호 복호화를 병렬 처리
+ * 4) 페이지 전체를 sms_log(REMINDER, REQUESTED)에 기록한 뒤 last_participant_id 체크포인트
+ * 5) SmsDispatcher 큐에 넣음 - 큐가 가득 차면 자리가 날 때까지 대기 (backpressure), 대기 중에도 updated_at 갱신
+ * 6) 초당 messagesPerSecond 이하로 속도 조절
+ *
+ * 체크포인트는 REMINDER 행이 만들어진 참가자까지만 전진 → 큐에 넣기 전에 죽어도 REQUESTED 행으로 남아 SmsDispatcher 회수로 발송
+ * 재개 시에는 체크포인트 이후부터 조회하고, 이미 REMINDER 이력이 있는 참가자는 조회 단계에서 제외 → 재발송 없음
+ */
+@Slf4j
+@Service
+public class ReminderFanoutService {
+
+    // RUNNING 상태가 이 시간 이상 갱신되지 않으면 다른 노드가 인수
+    private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+    private final EventMapper eventMapper;
+    private final ParticipantMapper participantMapper;
+    private final ReminderProgressMapper reminderProgressMapper;
+    private final VerificationService verificationService;
+    private final SmsDispatcher smsDispatcher;
+    private final Clock clock;
+
+    private final int pageSize;
+    private final int messagesPerSecond;
+
+    // 이 노드에서 실행 중인 이벤트
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "reminder-fanout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReminderFanoutService(
+            EventMapper eventMapper,
+            ParticipantMapper participantMapper,
+            ReminderProgressMapper reminderProgressMapper,
+            VerificationService verificationService,
+            SmsDispatcher smsDispatcher,
+            Clock clock,
+            @Value("${reminder.page-size:1000}") int pageSize,
+            @Value("${reminder.messages-per-second:200}") int messagesPerSecond) {
+        this.eventMapper = eventMapper;
+        this.participantMapper = participantMapper;
+        this.reminderProgressMapper = reminderProgressMapper;
+        this.verificationService = verificationService;
+        this.smsDispatcher = smsDispatcher;
+        this.clock = clock;
+        this.pageSize = pageSize;
+        this.messagesPerSecond = messagesPerSecond;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 발표 기간에 들어선 이벤트 중 발송이 끝나지 않은 이벤트의 발송 작업 시작
+     * - 스케줄러에서 주기적으로 호출, 실제 발송은 백그라운드 스레드에서 진행
+     */
+    public void startDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Event event : eventMapper.findAnnouncementStarted(now)) {
+            if (running.contains(event.getEventId())) continue;
+            ReminderProgress progress = claim(event.getEventId(), now);
+            if (progress == null) continue;
+
+            running.add(event.getEventId());
+            executor.submit(() -> {
+                try {
+                    fanOut(event, progress.getLastParticipantId());
+                } catch (Exception e) {
+                    log.error("발표 안내 발송 중단: eventId={}", event.getEventId(), e);
+                } finally {
+                    running.remove(event.getEventId());
+                }
+            });
+        }
+    }
+
+    /**
+     * 발표 시작 시각 정시 알림을 받으면 바로 발송 시작 (1분 주기 호출을 기다리지 않음)
+     */
+    @EventListener
+    public void onTransition(EventTransition transition) {
+        if (transition.type() == EventTransition.Type.ANNOUNCEMENT_STARTED) {
+            startDue();
+        }
+    }
+
+    /**
+     * 발송 작업 선점
+     * - 처음이면 INSERT로 선점
+     * - RUNNING인데 오래 갱신되지 않았으면 인수 (체크포인트부터 재개)
+     * - COMPLETED이거나 다른 노드가 실행 중이면 null
+     */
+    private ReminderProgress claim(Long eventId, LocalDateTime now) {
+        try {
+            reminderProgressMapper.insert(eventId, now);
+            return reminderProgressMapper.findByEventId(eventId);
+        } catch (DuplicateKeyException e) {
+            ReminderProgress progress = reminderProgressMapper.findByEventId(eventId);
+            if (progress == null || progress.getStatus() == ReminderStatus.COMPLETED) return null;
+            if (reminderProgressMapper.takeOver(eventId, now.minus(STALE_AFTER), now) == 0) return null;
+            return progress;
+        }
+    }
+
+    private void fanOut(Event event, long afterId) throws InterruptedException {
+        Long eventId = event.getEventId();
+        String text = "[로또 이벤트] " + event.getName() + " 당첨 결과가 발표되었습니다. 결과 조회: /result.html?eventId=" + eventId;
+        long nanosPerMessage = TimeUnit.SECONDS.toNanos(1) / Math.max(messagesPerSecond, 1);
+
+        long lastId = afterId;
+        while (!Thread.currentThread().isInterrupted()) {
+            long pageStarted = System.nanoTime();
+
+            List<Participant> page = participantMapper.findReminderTargets(eventId, lastId, pageSize);
+            if (page.isEmpty()) break;
+
+            // 복호화는 CPU 작업이라 페이지 단위로 병렬 처리
+            List<SmsMessage> messages = page.parallelStream()
+                    .map(p -> new SmsMessage(p.getParticipantId(), SmsType.REMINDER,
+                            verificationService.decryptPhone(p.getPhoneEncrypted()), text))
+                    .toList();
+
+            // REMINDER 행을 먼저 만들고 그 참가자까지만 체크포인트
+            List<RecordedSms> recorded = smsDispatcher.record(messages);
+            lastId = page.get(page.size() - 1).getParticipantId();
+            reminderProgressMapper.updateProgress(eventId, lastId, recorded.size(), LocalDateTime.now(clock));
+
+            for (RecordedSms sms : recorded) {
+                while (!smsDispatcher.offer(sms, Duration.ofSeconds(1))) {
+                    // 큐가 가득 참 - 발송이 따라잡을 때까지 대기, 오래 막혀도 다른 노드가 인수하지 않도록 heartbeat
+                    reminderProgressMapper.heartbeat(eventId, LocalDateTime.now(clock));
+                }
+            }
+
+            // 속도 조절: 페이지 크기 x 메시지당 시간만큼 지나기 전이면 남은 시간 대기
+            long remaining = nanosPerMessage * messages.size() - (System.nanoTime() - pageStarted);
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+        }
+
+        if (!Thread.currentThread().isInterrupted()) {
+            reminderProgressMapper.complete(eventId, LocalDateTime.now(clock));
+            log.info("발표 안내 발송 완료: eventId={}", eventId);
+        }
+    }
+}
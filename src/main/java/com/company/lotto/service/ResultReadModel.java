@@ -0,0 +1,338 @@
+package com.company.lotto.service;
+
+import com.company.lotto.domain.AnnouncedTicket;
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.LottoNumbers;
+import com.company.lotto.domain.NumberPool.PoolResult;
+import com.company.lotto.domain.ParticipantEntry;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import com.company.lotto.scheduler.EventTransition;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 발표 중 이벤트 결과 조회용 메모리 읽기 모델 (노드별)
+ *
+ * - 발표가 시작되면(ANNOUNCEMENT_STARTED / 1분 주기 확인) 참가자 + 티켓 + 조회 이력 여부를 키셋 페이징으로 한 번 적재
+ * - checkResult는 여기서 찾으면 JOIN 조회 없이 조회 이력 쓰기 1번만 실행, 못 찾으면 기존 DB 조회 (미참가 판단은 항상 DB)
+ * - 발표가 끝나거나 다른 이벤트가 발표 중이 되면 교체
+ *
+ * 메모리 (채움률 상한 LOAD_FACTOR, 슬롯당 long 3개 = 24B + 조회 이력 1비트):
+ * - 슬롯 수 = expected / LOAD_FACTOR 이상인 2의 거듭제곱 → 참가자 1명당 슬롯 1.33개 이상 2.67개 미만 = 32B ~ 64B
+ * - 200만 명 기준 슬롯 2^22개 ≈ 101MB
+ * - keys         : 전화번호 식별값(phone_hmac / phone_hash) 앞 8바이트
+ * - participants : participant_id (0이면 빈 슬롯)
+ * - packed       : 번호 마스크 45비트 | 등수 3비트 | 전화번호 뒷자리 14비트
+ * - viewed       : 조회 이력 비트 (슬롯당 1비트)
+ * 식별값 앞 8바이트가 겹치는 참가자는 메모리에서 내주지 않고 DB로 조회, 찾은 경우에도 뒷자리 4개가 같아야 사용
+ */
+@Slf4j
+@Service
+public class ResultReadModel {
+
+    private static final int PAGE_SIZE = 5_000;
+
+    // 선형 탐사 채움률 상한 - 슬롯 수 산정과 적재 한도(limit)에 같이 사용
+    private static final double LOAD_FACTOR = 0.75;
+
+    // 식별값 앞 8바이트가 겹친 슬롯 (DB로 조회)
+    private static final long AMBIGUOUS = -1L;
+
+    private static final long NUMBERS_MASK = (1L << LottoNumbers.MAX_NUMBER) - 1;
+    private static final int TIER_SHIFT = LottoNumbers.MAX_NUMBER;
+    private static final int LAST4_SHIFT = TIER_SHIFT + 3;
+    private static final PoolResult[] TIERS = PoolResult.values();
+
+    private final EventMapper eventMapper;
+    private final ParticipantMapper participantMapper;
+    private final VerificationService verificationService;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private volatile Snapshot snapshot;
+    private volatile Long skippedEventId;   // maxEntries 초과로 적재하지 않은 이벤트 (반복 시도 방지)
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    public ResultReadModel(
+            EventMapper eventMapper,
+            ParticipantMapper participantMapper,
+            VerificationService verificationService,
+            Clock clock,
+            @Value("${result-cache.enabled:false}") boolean enabled,
+            @Value("${result-cache.max-entries:2000000}") int maxEntries) {
+        this.eventMapper = eventMapper;
+        this.participantMapper = participantMapper;
+        this.verificationService = verificationService;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    @EventListener
+    public void onTransition(EventTransition transition) {
+        if (transition.type() == EventTransition.Type.ANNOUNCEMENT_STARTED) {
+            refresh();
+        }
+    }
+
+    /**
+     * 1분마다 발표 중 이벤트 확인 (기동 직후 / 전환 알림 누락 대비)
+     * - 적재는 별도 스레드에서 진행, 끝나기 전까지는 DB 조회
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 10_000)
+    public void refresh() {
+        if (!enabled) return;
+
+        Event event = eventMapper.findAnnouncingEvent(LocalDateTime.now(clock));
+        Snapshot current = snapshot;
+        if (event == null) {
+            if (current != null) {
+                snapshot = null;
+                log.info("결과 읽기 모델 해제: eventId={}", current.eventId);
+            }
+            return;
+        }
+        if (current != null && current.eventId == event.getEventId()) return;
+        if (event.getEventId().equals(skippedEventId)) return;
+        if (!loading.compareAndSet(false, true)) return;
+
+        Thread thread = new Thread(() -> {
+            try {
+                load(event);
+            } catch (Exception e) {
+                log.error("결과 읽기 모델 적재 실패: eventId={}", event.getEventId(), e);
+            } finally {
+                loading.set(false);
+            }
+        }, "result-read-model");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 발표 중 이벤트 참가자 조회 - 메모리에 없으면 null (호출 측에서 DB 조회)
+     */
+    public ParticipantEntry find(Long eventId, PhoneKey phoneKey, String phoneNumber) {
+        Snapshot current = snapshot;
+        if (current == null || eventId == null || current.eventId != eventId) return null;
+
+        String last4 = last4Of(phoneNumber);
+        int slot = current.find(phoneKey, parseLast4(last4));
+        if (slot < 0) return null;
+
+        long packed = current.packed[slot];
+        return new ParticipantEntry(eventId, current.announceStartAt, current.announceEndAt,
+                current.participants[slot], null, null, last4,
+                new LottoNumbers(packed & NUMBERS_MASK), TIERS[(int) (packed >>> TIER_SHIFT & 0x7)],
+                current.isViewed(slot) ? 1 : null);
+    }
+
+    /**
+     * 조회 이력 기록 반영 - 트랜잭션 안이면 커밋된 뒤에 (롤백되면 첫 조회가 그대로 남도록)
+     */
+    public void markViewed(Long eventId, PhoneKey phoneKey, String phoneNumber) {
+        Snapshot current = snapshot;
+        if (current == null || eventId == null || current.eventId != eventId) return;
+
+        int slot = current.find(phoneKey, parseLast4(last4Of(phoneNumber)));
+        if (slot < 0) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    current.markViewed(slot);
+                }
+            });
+            return;
+        }
+        current.markViewed(slot);
+    }
+
+    private void load(Event event) {
+        long started = System.currentTimeMillis();
+        Long eventId = event.getEventId();
+
+        int expected = participantMapper.selectNextTicketSeq(eventId) - 1;
+        if (expected > maxEntries) {
+            skippedEventId = eventId;
+            log.warn("결과 읽기 모델 적재 생략 (최대 건수 초과): eventId={}, participants={}, max={}",
+                    eventId, expected, maxEntries);
+            return;
+        }
+
+        boolean hmacFirst = verificationService.getPhoneHashMode() != PhoneHashMode.LEGACY;
+        Snapshot loaded = new Snapshot(eventId, event.getAnnounceStartAt(), event.getAnnounceEndAt(), expected,
+                hmacFirst);
+        long afterId = 0;
+        pages:
+        while (true) {
+            List<AnnouncedTicket> page = participantMapper.findAnnouncedTickets(eventId, afterId, PAGE_SIZE);
+            if (page.isEmpty()) break;
+            for (AnnouncedTicket ticket : page) {
+                if (!loaded.put(ticket)) {
+                    // 적재 중 참가자가 늘어 용량을 넘음 - 나머지는 DB 조회
+                    log.warn("결과 읽기 모델 용량 초과: eventId={}, size={}", eventId, loaded.size);
+                    break pages;
+                }
+            }
+            afterId = page.get(page.size() - 1).participantId();
+        }
+
+        snapshot = loaded;
+        log.info("결과 읽기 모델 적재 완료: eventId={}, entries={}, slots={}, bytes={}, elapsedMs={}",
+                eventId, loaded.size, loaded.keys.length, loaded.bytes(), System.currentTimeMillis() - started);
+    }
+
+    // 참가 시 저장한 phone_last4와 같은 방식 (입력 문자열 끝 4자리)
+    private static String last4Of(String phoneNumber) {
+        return phoneNumber.substring(Math.max(phoneNumber.length() - 4, 0));
+    }
+
+    /**
+     * 뒷자리 4개 → 0~9999 (숫자가 아니면 -1, 메모리에서 찾지 않음)
+     */
+    private static int parseLast4(String last4) {
+        if (last4 == null || last4.length() != 4) return -1;
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = last4.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    // phone_hmac 앞 8바이트
+    private static long fingerprint(byte[] hmac) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (hmac[i] & 0xFF);
+        }
+        return value;
+    }
+
+    // phone_hash(SHA-256 hex) 앞 16자리 = 앞 8바이트
+    private static long fingerprint(String hash) {
+        return Long.parseUnsignedLong(hash, 0, 16, 16);
+    }
+
+    /**
+     * 선형 탐사 해시 테이블 (적재 후에는 viewed 비트만 변경)
+     */
+    private static final class Snapshot {
+
+        private final long eventId;
+        private final LocalDateTime announceStartAt;
+        private final LocalDateTime announceEndAt;
+        private final boolean hmacFirst;    // 현재 모드가 먼저 조회하는 식별값으로 색인 (LEGACY면 phone_hash)
+
+        private final long[] keys;
+        private final long[] participants;
+        private final long[] packed;
+        private final AtomicLongArray viewed;
+        private final int mask;
+        private final int limit;
+        private int size;
+
+        Snapshot(long eventId, LocalDateTime announceStartAt, LocalDateTime announceEndAt, int expected,
+                 boolean hmacFirst) {
+            this.eventId = eventId;
+            this.announceStartAt = announceStartAt;
+            this.announceEndAt = announceEndAt;
+            this.hmacFirst = hmacFirst;
+
+            // expected건을 넣어도 채움률이 LOAD_FACTOR 이하인 가장 작은 2의 거듭제곱
+            int capacity = 64;
+            while (capacity * LOAD_FACTOR < expected) capacity <<= 1;
+            this.keys = new long[capacity];
+            this.participants = new long[capacity];
+            this.packed = new long[capacity];
+            this.viewed = new AtomicLongArray(capacity >>> 6);
+            this.mask = capacity - 1;
+            this.limit = (int) (capacity * LOAD_FACTOR);
+        }
+
+        boolean put(AnnouncedTicket ticket) {
+            int last4 = parseLast4(ticket.phoneLast4());
+            boolean byHmac = ticket.phoneHmac() != null && (hmacFirst || ticket.phoneHash() == null);
+            if (last4 < 0 || (!byHmac && ticket.phoneHash() == null)) return true;  // 색인할 수 없음 - DB 조회
+            if (size >= limit) return false;
+
+            long key = byHmac ? fingerprint(ticket.phoneHmac()) : fingerprint(ticket.phoneHash());
+            long value = ticket.numbers().mask()
+                    | (long) ticket.result().ordinal() << TIER_SHIFT
+                    | (long) last4 << LAST4_SHIFT;
+
+            int i = index(key);
+            while (participants[i] != 0) {
+                if (keys[i] == key) {
+                    packed[i] = AMBIGUOUS;
+                    return true;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            participants[i] = ticket.participantId();
+            packed[i] = value;
+            if (ticket.viewed()) markViewed(i);
+            size++;
+            return true;
+        }
+
+        /**
+         * 슬롯 번호 (없거나 겹치거나 뒷자리가 다르면 -1)
+         * - 현재 모드의 조회 순서와 같게 phone_hmac → phone_hash
+         */
+        int find(PhoneKey phoneKey, int last4) {
+            if (last4 < 0) return -1;
+            int slot = -1;
+            if (phoneKey.hmac() != null) slot = find(fingerprint(phoneKey.hmac()), last4);
+            if (slot < 0 && phoneKey.hash() != null) slot = find(fingerprint(phoneKey.hash()), last4);
+            return slot;
+        }
+
+        private int find(long key, int last4) {
+            int i = index(key);
+            while (participants[i] != 0) {
+                if (keys[i] == key) {
+                    long value = packed[i];
+                    if (value == AMBIGUOUS || (int) (value >>> LAST4_SHIFT) != last4) return -1;
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        boolean isViewed(int slot) {
+            return (viewed.get(slot >>> 6) & (1L << slot)) != 0;
+        }
+
+        void markViewed(int slot) {
+            long bit = 1L << slot;
+            viewed.accumulateAndGet(slot >>> 6, bit, (a, b) -> a | b);
+        }
+
+        long bytes() {
+            return (long) keys.length * Long.BYTES * 3 + (long) viewed.length() * Long.BYTES;
+        }
+
+        private int index(long key) {
+            return (int) (key ^ (key >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.company.lotto.service;
+
+import com.company.lotto.config.SmsSender;
+import com.company.lotto.domain.PendingSms;
+import com.company.lotto.domain.SmsLog;
+import com.company.lotto.domain.SmsLog.SmsStatus;
+import com.company.lotto.domain.SmsLog.SmsType;
+import com.company.lotto.repository.SmsLogMapper;
+import com.company.lotto.scheduler.LeaderLease;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * SMS 발송 파이프라인
+ *
+ * 흐름:
+ * 1) enqueue/record : sms_log(REQUESTED, 본문 포함) INSERT - 호출 측 트랜잭션 안이면 같이 커밋
+ * 2) 커밋 후 bounded 큐에 넣음 - 요청 스레드는 대기하지 않음
+ * 3) 디스패치 스레드 : 큐에서 최대 batchSize개씩 꺼냄
+ * 4) 발송 스레드 풀(concurrency개)에서 동시 발송, 실패 시 지수 백오프로 재시도
+ * 5) 배치 결과를 SUCCESS / FAILED 별로 UPDATE 1번씩 반영
+ *
+ * 유실 방지 (최소 1회 발송):
+ * - 큐에 있는 메시지는 모두 REQUESTED 행이 있음 → 큐가 가득 차서 못 넣었거나 노드가 종료/장애로 내려가도 행이 남음
+ * - 리더 노드가 1분마다 RECOVER_AFTER 넘게 REQUESTED인 행을 다시 큐에 넣음 (requested_at 갱신 → 중복 회수 방지)
+ * - 종료 시 최대 shutdown-drain-ms 동안 큐를 비운 뒤 종료, 남은 메시지는 다른 노드 / 재기동 후 회수
+ */
+@Slf4j
+@Service
+public class SmsDispatcher {
+
+    /**
+     * 발송 대기 메시지
+     */
+    public record SmsMessage(Long participantId, SmsType type, String phoneNumber, String text) {
+    }
+
+    /**
+     * sms_log 행이 만들어진 메시지 (큐에는 이것만 들어감)
+     */
+    public record RecordedSms(Long smsId, SmsMessage message) {
+    }
+
+    // REQUESTED 상태로 이 시간 넘게 남은 행은 큐에서 빠진 것으로 보고 다시 발송
+    private static final Duration RECOVER_AFTER = Duration.ofMinutes(10);
+    private static final int RECOVER_LIMIT = 1_000;
+
+    private final SmsSender smsSender;
+    private final SmsLogMapper smsLogMapper;
+    private final VerificationService verificationService;
+    private final LeaderLease leaderLease;
+
+    private final BlockingQueue<RecordedSms> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long shutdownDrainMillis;
+
+    private final ExecutorService senderPool;
+    private final Thread dispatchThread;
+    private volatile boolean running = true;
+    private volatile boolean dispatching;
+
+    // 큐가 가득 차서 회수 대상으로 미룬 메시지 수
+    private final AtomicLong deferred = new AtomicLong();
+
+    public SmsDispatcher(
+            SmsSender smsSender,
+            SmsLogMapper smsLogMapper,
+            VerificationService verificationService,
+            LeaderLease leaderLease,
+            @Value("${sms.queue-capacity:10000}") int queueCapacity,
+            @Value("${sms.batch-size:100}") int batchSize,
+            @Value("${sms.concurrency:8}") int concurrency,
+            @Value("${sms.max-attempts:3}") int maxAttempts,
+            @Value("${sms.backoff-ms:200}") long backoffMillis,
+            @Value("${sms.shutdown-drain-ms:10000}") long shutdownDrainMillis) {
+        this.smsSender = smsSender;
+        this.smsLogMapper = smsLogMapper;
+        this.verificationService = verificationService;
+        this.leaderLease = leaderLease;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.shutdownDrainMillis = shutdownDrainMillis;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.senderPool = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "sms-sender-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatchThread = new Thread(this::dispatchLoop, "sms-dispatcher");
+        this.dispatchThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatchThread.start();
+    }
+
+    /**
+     * 종료 - 최대 shutdownDrainMillis 동안 큐 + 진행 중 배치가 끝나기를 기다린 뒤 중단
+     * - 남은 메시지는 REQUESTED 행으로 남아 회수 대상
+     */
+    @PreDestroy
+    public void stop() {
+        long deadline = System.currentTimeMillis() + shutdownDrainMillis;
+        try {
+            while ((!queue.isEmpty() || dispatching) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("SMS 큐를 비우지 못하고 종료합니다 (REQUESTED로 남아 회수 대상): remaining={}", queue.size());
+        }
+        running = false;
+        dispatchThread.interrupt();
+        senderPool.shutdown();
+    }
+
+    /**
+     * 요청 스레드용 - 큐 대기 없음
+     * - sms_log 행은 호출 측 트랜잭션 안에서 INSERT (participant와 같이 커밋 → 커밋 후 장애에도 행이 남음)
+     * - 큐에는 커밋 이후에 넣음, 가득 차면 REQUESTED로 남겨 회수 때 발송
+     */
+    public void enqueue(SmsMessage message) {
+        enqueueAll(List.of(message));
+    }
+
+    /**
+     * 여러 건을 multi-row INSERT 1번으로 기록 후 커밋 이후 큐에 넣음 (묶음 참가용)
+     */
+    public void enqueueAll(List<SmsMessage> messages) {
+        List<RecordedSms> recorded = record(messages);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recorded.forEach(SmsDispatcher.this::offerOrDefer);
+                }
+            });
+            return;
+        }
+        recorded.forEach(this::offerOrDefer);
+    }
+
+    /**
+     * sms_log(REQUESTED) 행 생성 - 배치 작업은 기록 후 offer로 큐에 넣음
+     */
+    public List<RecordedSms> record(List<SmsMessage> messages) {
+        if (messages.isEmpty()) return List.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SmsLog> logs = new ArrayList<>(messages.size());
+        for (SmsMessage message : messages) {
+            SmsLog smsLog = new SmsLog();
+            smsLog.setParticipantId(message.participantId());
+            smsLog.setType(message.type());
+            smsLog.setStatus(SmsStatus.REQUESTED);
+            smsLog.setBody(message.text());
+            smsLog.setRequestedAt(now);
+            logs.add(smsLog);
+        }
+        smsLogMapper.batchInsert(logs);
+
+        List<RecordedSms> recorded = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            recorded.add(new RecordedSms(logs.get(i).getSmsId(), messages.get(i)));
+        }
+        return recorded;
+    }
+
+    /**
+     * 배치 작업용 - 큐에 자리가 날 때까지 최대 timeout만큼 대기 (backpressure)
+     *
+     * @return 큐에 넣었으면 true
+     */
+    public boolean offer(RecordedSms sms, Duration timeout) throws InterruptedException {
+        return queue.offer(sms, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    public long deferredCount() {
+        return deferred.get();
+    }
+
+    /**
+     * 오래 REQUESTED로 남은 행 회수 (큐가 가득 차서 미룬 메시지 / 종료·장애로 큐에서 사라진 메시지)
+     * - 리더 노드만, requested_at을 갱신해서 다음 회수 전까지 다시 집지 않음
+     * - 큐에 자리가 없으면 다음 회수로 미룸
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+    public void recover() {
+        if (!leaderLease.isLeader()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingSms> pending = smsLogMapper.findPending(now.minus(RECOVER_AFTER),
+                Math.min(RECOVER_LIMIT, queue.remainingCapacity()));
+        if (pending.isEmpty()) return;
+
+        smsLogMapper.touchRequested(pending.stream().map(PendingSms::smsId).toList(), now);
+        for (PendingSms sms : pending) {
+            SmsMessage message = new SmsMessage(sms.participantId(), sms.type(),
+                    verificationService.decryptPhone(sms.phoneEncrypted()), sms.body());
+            offerOrDefer(new RecordedSms(sms.smsId(), message));
+        }
+        log.info("REQUESTED SMS 회수: count={}", pending.size());
+    }
+
+    private void offerOrDefer(RecordedSms sms) {
+        if (!queue.offer(sms)) {
+            deferred.incrementAndGet();
+            log.warn("SMS 큐가 가득 차서 회수 때 발송합니다: smsId={}, type={}", sms.smsId(), sms.message().type());
+        }
+    }
+
+    private void dispatchLoop() {
+        List<RecordedSms> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                RecordedSms first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                dispatching = true;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("SMS 배치 처리 실패: size={}", batch.size(), e);
+            } finally {
+                batch.clear();
+                dispatching = false;
+            }
+        }
+    }
+
+    private void dispatch(List<RecordedSms> batch) {
+        // 1) 동시 발송 (발송 스레드 풀 크기 = 동시 발송 상한)
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(batch.size());
+        for (RecordedSms sms : batch) {
+            results.add(CompletableFuture.supplyAsync(() -> sendWithRetry(sms.message()), senderPool));
+        }
+
+        // 2) 결과 반영 (REQUESTED 행은 기록 시점에 생성됨)
+        List<Long> succeeded = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long smsId = batch.get(i).smsId();
+            if (results.get(i).join()) {
+                succeeded.add(smsId);
+            } else {
+                failed.add(smsId);
+            }
+        }
+
+        LocalDateTime completedAt = LocalDateTime.now();
+        if (!succeeded.isEmpty()) {
+            smsLogMapper.updateStatusBatch(succeeded, SmsStatus.SUCCESS.name(), completedAt);
+        }
+        if (!failed.isEmpty()) {
+            smsLogMapper.updateStatusBatch(failed, SmsStatus.FAILED.name(), completedAt);
+        }
+    }
+
+    /**
+     * 발송 + 재시도 (backoff, backoff*2, backoff*4 ...)
+     */
+    private boolean sendWithRetry(SmsMessage message) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                smsSender.send(message.phoneNumber(), message.text());
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("SMS 발송 실패: participantId={}, type={}, attempts={}",
+                            message.participantId(), message.type(), attempt, e);
+                    return false;
+                }
+                try {
+                    Thread.sleep(backoffMillis << (attempt - 1));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.company.lotto.service;
+
+import com.company.lotto.config.ErrorCode;
+import com.company.lotto.config.LottoException;
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.LottoNumbers;
+import com.company.lotto.domain.LottoTicket;
+import com.company.lotto.domain.NumberPool.PoolResult;
+import com.company.lotto.dto.lotto.TicketAuditResponse;
+import com.company.lotto.dto.lotto.TicketAuditResponse.Mismatch;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.LottoTicketMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 발급된 티켓 등수 재검증 (배치)
+ *
+ * 흐름:
+ * 1) 저장된 당첨 번호(event.winning_mask) 조회
+ * 2) ticket_seq 1 ~ MAX를 pageSize 구간으로 나눠 워커 스레드에서 병렬 조회 (uk_event_ticket_seq 범위 스캔)
+ * 3) 티켓마다 번호로 등수를 다시 계산해서 저장된 result와 다르면 불일치로 보고
+ *
+ * 조회 전용 - 불일치를 고치지 않음 (원인 확인 후 수동 처리)
+ */
+@Slf4j
+@Service
+public class TicketAuditService {
+
+    // 응답에 담을 불일치 최대 건수 (전체 건수는 mismatchCount)
+    private static final int MAX_REPORTED = 100;
+
+    private final EventMapper eventMapper;
+    private final ParticipantMapper participantMapper;
+    private final LottoTicketMapper lottoTicketMapper;
+    private final TicketScoringService ticketScoringService;
+
+    private final int pageSize;
+    private final ExecutorService executor;
+
+    public TicketAuditService(
+            EventMapper eventMapper,
+            ParticipantMapper participantMapper,
+            LottoTicketMapper lottoTicketMapper,
+            TicketScoringService ticketScoringService,
+            @Value("${audit.page-size:1000}") int pageSize,
+            @Value("${audit.concurrency:4}") int concurrency) {
+        this.eventMapper = eventMapper;
+        this.participantMapper = participantMapper;
+        this.lottoTicketMapper = lottoTicketMapper;
+        this.ticketScoringService = ticketScoringService;
+        this.pageSize = pageSize;
+        this.executor = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "ticket-audit");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public TicketAuditResponse audit(Long eventId) {
+        Event event = eventMapper.findById(eventId);
+        if (event == null) {
+            throw LottoException.of(ErrorCode.EVENT_NOT_FOUND);
+        }
+
+        long started = System.currentTimeMillis();
+        LottoNumbers winning = ticketScoringService.getWinningNumbers(eventId);
+        int maxSeq = participantMapper.selectNextTicketSeq(eventId) - 1;
+
+        List<CompletableFuture<PageResult>> pages = new ArrayList<>();
+        for (int from = 1; from <= maxSeq; from += pageSize) {
+            int fromSeq = from;
+            int toSeq = Math.min(from + pageSize - 1, maxSeq);
+            pages.add(CompletableFuture.supplyAsync(() -> scan(eventId, fromSeq, toSeq, winning), executor));
+        }
+
+        int scanned = 0;
+        int mismatchCount = 0;
+        List<Mismatch> mismatches = new ArrayList<>();
+        for (CompletableFuture<PageResult> page : pages) {
+            PageResult result = join(page);
+            scanned += result.scanned();
+            mismatchCount += result.mismatches().size();
+            for (Mismatch mismatch : result.mismatches()) {
+                if (mismatches.size() >= MAX_REPORTED) break;
+                mismatches.add(mismatch);
+            }
+        }
+
+        long elapsedMs = System.currentTimeMillis() - started;
+        if (mismatchCount > 0) {
+            log.warn("티켓 등수 불일치: eventId={}, scanned={}, mismatches={}", eventId, scanned, mismatchCount);
+        } else {
+            log.info("티켓 등수 재검증 완료: eventId={}, scanned={}, elapsedMs={}", eventId, scanned, elapsedMs);
+        }
+        return new TicketAuditResponse(eventId, scanned, mismatchCount, mismatches, elapsedMs);
+    }
+
+    private PageResult scan(Long eventId, int fromSeq, int toSeq, LottoNumbers winning) {
+        List<LottoTicket> tickets = lottoTicketMapper.findByTicketSeqRange(eventId, fromSeq, toSeq);
+        List<Mismatch> mismatches = new ArrayList<>();
+        for (LottoTicket ticket : tickets) {
+            PoolResult expected = ticketScoringService.score(winning, ticket.getNumbers());
+            if (expected != ticket.getResult()) {
+                mismatches.add(new Mismatch(ticket.getTicketId(), ticket.getParticipantId(),
+                        ticket.getNumbers().toList(), String.valueOf(ticket.getResult()), expected.name()));
+            }
+        }
+        return new PageResult(tickets.size(), mismatches);
+    }
+
+    private PageResult join(CompletableFuture<PageResult> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private record PageResult(int scanned, List<Mismatch> mismatches) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.company.lotto.service;
+
+import com.company.lotto.config.ErrorCode;
+import com.company.lotto.config.LottoException;
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.LottoTicket;
+import com.company.lotto.domain.Participant;
+import com.company.lotto.domain.PoolSlot;
+import com.company.lotto.repository.LottoTicketMapper;
+import com.company.lotto.repository.NumberPoolMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참가자 N명 티켓 일괄 발급 - 호출 측 트랜잭션 안에서 실행
+ *
+ * ParticipantImportWriter(일괄 등록) / ParticipateBatchWriter(동시 참가 묶음)에서 공용
+ *
+ * 핵심 흐름:
+ * 1) ticket_seq를 N개 한 번에 예약 (TicketSeqAllocator - 다른 발급 경로 / 노드와 겹치지 않음)
+ * 2) participant multi-row INSERT (+ 참가자 필터 추가) → ticket_seq 구간으로 participant_id 재조회
+ * 3) 자격 등수 조합별로 슬롯을 한 번에 N개 잠금 조회 → 일괄 사용 처리
+ * 4) lotto_ticket multi-row INSERT
+ *
+ * 휴대폰 번호 충돌 시 DuplicateKeyException, 슬롯 부족 시 SLOTS_EXHAUSTED → 호출 측 트랜잭션 전체 롤백
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketBatchIssuer {
+
+    private final ParticipantMapper participantMapper;
+    private final NumberPoolMapper numberPoolMapper;
+    private final LottoTicketMapper lottoTicketMapper;
+    private final VerificationService verificationService;
+    private final LottoService lottoService;
+    private final ParticipantFilter participantFilter;
+    private final TicketSeqAllocator ticketSeqAllocator;
+
+    /**
+     * 해시/암호화까지 끝난 참가자 1명분 데이터
+     */
+    public record IssueRow(PhoneKey phoneKey, String phoneEncrypted, String phoneLast4) {
+    }
+
+    /**
+     * @return rows와 같은 순서의 발급 티켓 (participantId 포함)
+     */
+    public List<LottoTicket> issue(Event event, List<IssueRow> rows, LocalDateTime now) {
+        Long eventId = event.getEventId();
+        PhoneHashMode mode = verificationService.getPhoneHashMode();
+
+        // 1) ticket_seq 블록 예약
+        int fromSeq = ticketSeqAllocator.reserve(eventId, rows.size());
+        int toSeq = fromSeq + rows.size() - 1;
+
+        // 2) participant 대량 저장
+        List<Participant> participants = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            IssueRow row = rows.get(i);
+            Participant participant = new Participant();
+            participant.setEventId(eventId);
+            participant.setPhoneHash(mode == PhoneHashMode.HMAC ? null : row.phoneKey().hash());
+            participant.setPhoneHmac(row.phoneKey().hmac());
+            participant.setPhoneEncrypted(row.phoneEncrypted());
+            participant.setPhoneLast4(row.phoneLast4());
+            participant.setTicketSeq(fromSeq + i);
+            participant.setCreatedAt(now);
+            participants.add(participant);
+        }
+        participantMapper.batchInsert(participants);
+        participantFilter.add(eventId, rows.stream().map(IssueRow::phoneKey).toList());
+
+        Map<Integer, Long> idBySeq = new HashMap<>();
+        for (Participant saved : participantMapper.findByTicketSeqRange(eventId, fromSeq, toSeq)) {
+            idBySeq.put(saved.getTicketSeq(), saved.getParticipantId());
+        }
+
+        // 3) 자격 등수 조합별로 묶어서 슬롯 블록 할당
+        Map<List<String>, List<Integer>> indexesByEligible = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> eligible = lottoService.getEligibleResults(rows.get(i).phoneKey().hash(), event, fromSeq + i);
+            indexesByEligible.computeIfAbsent(eligible, k -> new ArrayList<>()).add(i);
+        }
+
+        LottoTicket[] tickets = new LottoTicket[rows.size()];
+        List<Long> usedPoolIds = new ArrayList<>(rows.size());
+        for (Map.Entry<List<String>, List<Integer>> group : indexesByEligible.entrySet()) {
+            List<Integer> indexes = group.getValue();
+            List<PoolSlot> slots = numberPoolMapper.findRandomAvailableSlots(eventId, group.getKey(), indexes.size());
+            if (slots.size() < indexes.size()) {
+                throw LottoException.of(ErrorCode.SLOTS_EXHAUSTED);
+            }
+
+            for (int j = 0; j < indexes.size(); j++) {
+                PoolSlot slot = slots.get(j);
+                usedPoolIds.add(slot.poolId());
+
+                int index = indexes.get(j);
+                LottoTicket ticket = new LottoTicket();
+                ticket.setParticipantId(idBySeq.get(fromSeq + index));
+                ticket.setNumbers(slot.numbers());
+                ticket.setResult(slot.result());
+                ticket.setIssuedAt(now);
+                tickets[index] = ticket;
+            }
+        }
+
+        numberPoolMapper.markUsedBatch(event.getEventId(), usedPoolIds);
+
+        // 4) lotto_ticket 대량 저장
+        List<LottoTicket> issued = Arrays.asList(tickets);
+        lottoTicketMapper.batchInsert(issued);
+        return issued;
+    }
+}
@@ -0,0 +1,58 @@
+package com.company.lotto.service;
+
+import com.company.lotto.config.ErrorCode;
+import com.company.lotto.config.LottoException;
+import com.company.lotto.domain.LottoNumbers;
+import com.company.lotto.domain.NumberPool.PoolResult;
+import com.company.lotto.repository.EventMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 티켓 채점 (서버 측 등수 계산)
+ *
+ * - 일치 개수 = Long.bitCount(당첨 마스크 & 티켓 마스크)
+ * - 등수 = 일치 개수(0~6)로 인덱싱하는 미리 계산된 표 (분기 없음)
+ * - 풀 생성 규칙과 같음: 6개 1등 / 5개 2등 / 4개 3등 / 3개 4등 / 0~2개 미당첨
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketScoringService {
+
+    // 일치 개수 -> 등수
+    private static final PoolResult[] TIER_BY_MATCHES = {
+            PoolResult.NONE,    // 0
+            PoolResult.NONE,    // 1
+            PoolResult.NONE,    // 2
+            PoolResult.FOURTH,  // 3
+            PoolResult.THIRD,   // 4
+            PoolResult.SECOND,  // 5
+            PoolResult.FIRST    // 6
+    };
+
+    private final EventMapper eventMapper;
+
+    // 이벤트별 당첨 번호 (한 번 저장되면 바뀌지 않으므로 만료 없음)
+    private final Map<Long, LottoNumbers> winningNumbers = new ConcurrentHashMap<>();
+
+    public PoolResult score(LottoNumbers winning, LottoNumbers ticket) {
+        return TIER_BY_MATCHES[winning.matchCount(ticket)];
+    }
+
+    /**
+     * 이벤트 당첨 번호 (풀 생성이 끝나지 않았으면 WINNING_NUMBERS_NOT_READY)
+     */
+    public LottoNumbers getWinningNumbers(Long eventId) {
+        LottoNumbers cached = winningNumbers.get(eventId);
+        if (cached != null) return cached;
+
+        LottoNumbers winning = eventMapper.findWinningNumbers(eventId);
+        if (winning == null) {
+            throw LottoException.of(ErrorCode.WINNING_NUMBERS_NOT_READY);
+        }
+        winningNumbers.put(eventId, winning);
+        return winning;
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.lotto.service;
+
+import com.company.lotto.repository.TicketSequenceMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+/**
+ * ticket_seq 구간 예약 - 호출 측 트랜잭션 안에서 실행
+ *
+ * 단건 참가 / 묶음 참가 / 일괄 등록 / 다른 노드가 모두 ticket_sequence 행 1개를 UPDATE로 증가시켜 구간을 받음
+ * - MAX(ticket_seq) + 1을 잠금 없이 읽던 방식과 달리 구간이 겹치지 않음 → ticket_seq 충돌로 묶음 전체가 롤백되지 않음
+ * - 행 잠금은 호출 측 커밋까지 유지되므로 같은 이벤트의 발급 트랜잭션은 예약 이후 구간에서 순서대로 커밋
+ * - 롤백되면 증가도 같이 롤백 (번호 빈 구간 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketSeqAllocator {
+
+    private final TicketSequenceMapper ticketSequenceMapper;
+
+    /**
+     * count개 구간 예약
+     *
+     * @return 구간 첫 번호 (fromSeq ~ fromSeq + count - 1)
+     */
+    public int reserve(Long eventId, int count) {
+        if (ticketSequenceMapper.increment(eventId, count) == 0) {
+            try {
+                ticketSequenceMapper.insertFromMax(eventId);
+            } catch (DuplicateKeyException e) {
+                // 동시에 다른 요청이 먼저 생성
+            }
+            ticketSequenceMapper.increment(eventId, count);
+        }
+        return ticketSequenceMapper.findNextSeq(eventId) - count;
+    }
+}
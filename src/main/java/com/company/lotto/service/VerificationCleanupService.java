@@ -0,0 +1,51 @@
+package com.company.lotto.service;
+
+import com.company.lotto.repository.PhoneVerificationMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class VerificationCleanupService {
+
+    private final PhoneVerificationMapper phoneVerificationMapper;
+
+    /**
+     * 만료 처리 1청크
+     *
+     * - afterId 이후의 만료 대상 ID를 최대 chunkSize개 조회해서 EXPIRED로 변경
+     * - 청크마다 트랜잭션을 짧게 끊어서 대량 UPDATE로 인한 락 대기를 피함
+     *
+     * @return 처리한 마지막 ID (대상이 없으면 -1)
+     */
+    @Transactional
+    public long expireChunk(long afterId, LocalDateTime now, int chunkSize) {
+        List<Long> ids = phoneVerificationMapper.findExpiredIds(afterId, now, chunkSize);
+        if (ids.isEmpty()) return -1;
+
+        phoneVerificationMapper.expireByIds(ids);
+        return ids.get(ids.size() - 1);
+    }
+
+    /**
+     * 보관 처리 1청크
+     *
+     * - cutoff 이전에 요청된 인증 이력을 보관 테이블로 복사한 뒤 원본에서 삭제
+     * - 복사와 삭제는 같은 트랜잭션에서 처리 (중간 실패 시 둘 다 롤백)
+     * - 삭제한 행은 다음 조회에 나오지 않으므로 호출할 때마다 가장 오래된 청크를 처리
+     *
+     * @return 보관한 행 수 (대상이 없으면 0)
+     */
+    @Transactional
+    public int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = phoneVerificationMapper.findArchivableIds(cutoff, chunkSize);
+        if (ids.isEmpty()) return 0;
+
+        phoneVerificationMapper.copyToArchive(ids);
+        phoneVerificationMapper.deleteByIds(ids);
+        return ids.size();
+    }
+}
@@ -4,19 +4,10 @@ import com.company.lotto.config.CodeStore;
 import com.company.lotto.domain.PhoneVerification;
 import com.company.lotto.domain.PhoneVerification.VerificationStatus;
 import com.company.lotto.repository.PhoneVerificationMapper;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Base64;
-import java.util.HexFormat;
 import java.util.Map;
 import java.util.Random;
-import javax.crypto.Cipher;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -30,13 +21,16 @@ public class VerificationService {
     // 인증 요청/상태를 DB에 기록하는 MyBatis Mapper
     private final PhoneVerificationMapper phoneVerificationMapper;
 
-    // phone hash에 추가로 섞는 비밀값(pepper) - 외부 설정에서 주입
-    // - 유출되면 위험하므로 환경변수/시크릿으로 관리
-    private final String phonePepper;
+    // 해시/암호화 처리 (MessageDigest, Cipher 스레드별 재사용)
+    // - phone hash에는 비밀값(pepper)을 추가로 섞음 - 유출되면 위험하므로 환경변수/시크릿으로 관리
+    // - 외부에서 들어온 문자열 키(encryptKey)는 SHA-256으로 해싱해서 32바이트 AES 키로 파생(derive)
+    private final PhoneCrypto phoneCrypto;
 
-    // AES-GCM 암호화에 사용할 키
-    // - 외부에서 들어온 문자열 키(encryptKey)를 SHA-256으로 해싱해서 32바이트 키로 파생(derive)
-    private final SecretKeySpec encryptionKey;
+    // 전화번호 해시 저장/조회 모드 (LEGACY -> DUAL -> HMAC 순으로 마이그레이션)
+    private final PhoneHashMode phoneHashMode;
+
+    // phone_hmac 저장 길이 (32 = 전체, 16 = prefix 절단)
+    private final int phoneHmacLength;
 
     // 인증코드 유효시간(TTL) 3분
     private static final Duration CODE_TTL = Duration.ofMinutes(3);
@@ -45,35 +39,21 @@ public class VerificationService {
     // - PHONE_SALT(고정) + normalizedPhone + pepper(비밀) 조합으로 해시
     private static final String PHONE_SALT = "lotto-event-phone-salt-2026";
 
-    // AES-GCM 알고리즘/파라미터
-    private static final String AES_ALGORITHM = "AES/GCM/NoPadding";
-    private static final int GCM_IV_LENGTH = 12;   // GCM 권장 IV 길이(12 bytes)
-    private static final int GCM_TAG_LENGTH = 128; // 인증 태그 길이(비트 단위)
-
     public VerificationService(
             CodeStore codeStore,
             PhoneVerificationMapper phoneVerificationMapper,
             @Value("${phone.hash.pepper}") String phonePepper,
-            @Value("${phone.encrypt.key}") String encryptKey) {
+            @Value("${phone.encrypt.key}") String encryptKey,
+            @Value("${phone.hash.mode:LEGACY}") PhoneHashMode phoneHashMode,
+            @Value("${phone.hash.hmac-length:32}") int phoneHmacLength) {
+        if (phoneHmacLength != 16 && phoneHmacLength != 32) {
+            throw new IllegalArgumentException("phone.hash.hmac-length는 16 또는 32만 가능합니다.");
+        }
         this.codeStore = codeStore;
         this.phoneVerificationMapper = phoneVerificationMapper;
-        this.phonePepper = phonePepper;
-        // encryptKey 문자열을 그대로 쓰지 않고 SHA-256으로 파생키 생성
-        this.encryptionKey = deriveKey(encryptKey);
-    }
-
-    /**
-     * encryptKey(문자열)을 SHA-256으로 해싱해서 32바이트 AES 키로 파생
-     * - SecretKeySpec(hash, "AES")로 AES 키로 사용
-     */
-    private SecretKeySpec deriveKey(String key) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
-            return new SecretKeySpec(hash, "AES");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+        this.phoneCrypto = new PhoneCrypto(PHONE_SALT, phonePepper, encryptKey);
+        this.phoneHashMode = phoneHashMode;
+        this.phoneHmacLength = phoneHmacLength;
     }
 
     /**
@@ -173,20 +153,39 @@ public class VerificationService {
      * - DB에서 "중복 참여 체크" 등을 할 때 원문 전화번호를 저장하지 않고 비교하기 위함
      *
      * 방식:
-     * - normalizePhone으로 숫자만 남기고(국가코드 82 처리) 정규화
+     * - PhoneCrypto.normalize로 숫자만 남기고(국가코드 82 처리) 정규화 (정규식 미사용)
      * - PHONE_SALT(고정) + normalized + pepper(비밀) 조합을 SHA-256 해시
      * - Hex 문자열로 반환
+     * - 스레드별 MessageDigest 재사용, 결과는 기존 방식과 바이트 단위로 동일
      */
     public String hashPhone(String phoneNumber) {
-        String normalized = normalizePhone(phoneNumber);
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            String salted = PHONE_SALT + normalized + phonePepper;
-            byte[] hash = digest.digest(salted.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+        return phoneCrypto.hash(phoneNumber);
+    }
+
+    /**
+     * 요청 1건에서 쓸 전화번호 식별값 계산
+     *
+     * - hash : 기존 salted SHA-256 hex (1등 당첨자 비교 + LEGACY/DUAL 조회)
+     * - hmac : HMAC-SHA256(key=pepper) 바이너리, phone.hash.hmac-length 바이트 (LEGACY 모드에서는 계산하지 않음)
+     */
+    public PhoneKey phoneKey(String phoneNumber) {
+        byte[] hmac = phoneHashMode == PhoneHashMode.LEGACY ? null : phoneCrypto.hmac(phoneNumber, phoneHmacLength);
+        return new PhoneKey(phoneCrypto.hash(phoneNumber), hmac);
+    }
+
+    public PhoneHashMode getPhoneHashMode() {
+        return phoneHashMode;
+    }
+
+    /**
+     * phone_hmac으로 찾은 참가자가 실제 같은 전화번호인지 확인
+     *
+     * - 32바이트 전체 HMAC이면 충돌을 고려하지 않음 (항상 true)
+     * - 16바이트 prefix로 절단한 경우에만 암호문을 복호화해서 정규화 번호를 비교
+     */
+    public boolean isSamePhone(String phoneEncrypted, String phoneNumber) {
+        if (phoneHmacLength == 32) return true;
+        return phoneCrypto.samePhone(phoneEncrypted, phoneNumber);
     }
 
     /**
@@ -197,33 +196,12 @@ public class VerificationService {
      * - 해시와는 용도가 다름 (해시=비복원, 암호화=복원 가능)
      *
      * 구현:
-     * - 매번 랜덤 IV(12 bytes) 생성
+     * - 매번 랜덤 IV(12 bytes) 생성 (공유 SecureRandom)
      * - AES-GCM으로 암호화
      * - [IV + ciphertext]를 붙여서 Base64로 인코딩하여 저장/전송
      */
     public String encryptPhone(String phoneNumber) {
-        try {
-            Cipher cipher = Cipher.getInstance(AES_ALGORITHM);
-
-            // IV는 매번 랜덤 생성해야 GCM 보안이 유지됨
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            new SecureRandom().nextBytes(iv);
-
-            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
-
-            // ciphertext에는 GCM 인증태그가 포함되어 나옴(구현체에 따라)
-            byte[] encrypted = cipher.doFinal(phoneNumber.getBytes(StandardCharsets.UTF_8));
-
-            // 복호화를 위해 IV를 함께 저장: IV + encrypted
-            byte[] combined = new byte[iv.length + encrypted.length];
-            System.arraycopy(iv, 0, combined, 0, iv.length);
-            System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
-
-            // DB 저장하기 쉽게 Base64로 변환
-            return Base64.getEncoder().encodeToString(combined);
-        } catch (Exception e) {
-            throw new RuntimeException("Phone encryption failed", e);
-        }
+        return phoneCrypto.encrypt(phoneNumber);
     }
 
     /**
@@ -234,36 +212,6 @@ public class VerificationService {
      * - 같은 키 + IV로 GCM 복호화
      */
     public String decryptPhone(String encryptedPhone) {
-        try {
-            byte[] combined = Base64.getDecoder().decode(encryptedPhone);
-
-            // 앞 12 bytes = IV, 나머지 = encrypted
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byte[] encrypted = new byte[combined.length - GCM_IV_LENGTH];
-            System.arraycopy(combined, 0, iv, 0, GCM_IV_LENGTH);
-            System.arraycopy(combined, GCM_IV_LENGTH, encrypted, 0, encrypted.length);
-
-            Cipher cipher = Cipher.getInstance(AES_ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
-
-            return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            throw new RuntimeException("Phone decryption failed", e);
-        }
-    }
-
-    /**
-     * 전화번호 정규화
-     *
-     * - 숫자만 남김 (하이픈, 공백 제거)
-     * - "82"로 시작하면 한국 번호로 보고 "0"으로 치환
-     *   예: 821012345678 -> 01012345678
-     */
-    private String normalizePhone(String phoneNumber) {
-        String digits = phoneNumber.replaceAll("[^0-9]", "");
-        if (digits.startsWith("82")) {
-            digits = "0" + digits.substring(2);
-        }
-        return digits;
+        return phoneCrypto.decrypt(encryptedPhone);
     }
 }
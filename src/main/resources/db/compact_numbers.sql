@@ -0,0 +1,34 @@
+-- =============================================================
+-- 번호 6개 INT 컬럼 -> numbers_mask BIGINT 전환 (MySQL)
+-- =============================================================
+-- 번호 n 은 (n - 1)번 비트 → 1~45 이므로 45비트 안에 들어감
+-- 애플리케이션은 numbers_mask만 읽고 쓰므로 배포 전에 점검 시간에 실행
+
+-- 1) 컬럼 추가 + 기존 데이터 변환
+ALTER TABLE number_pool ADD COLUMN numbers_mask BIGINT NULL AFTER pool_id;
+UPDATE number_pool
+SET numbers_mask = (1 << (slot1 - 1)) | (1 << (slot2 - 1)) | (1 << (slot3 - 1))
+                 | (1 << (slot4 - 1)) | (1 << (slot5 - 1)) | (1 << (slot6 - 1));
+
+ALTER TABLE lotto_ticket ADD COLUMN numbers_mask BIGINT NULL AFTER participant_id;
+UPDATE lotto_ticket
+SET numbers_mask = (1 << (num1 - 1)) | (1 << (num2 - 1)) | (1 << (num3 - 1))
+                 | (1 << (num4 - 1)) | (1 << (num5 - 1)) | (1 << (num6 - 1));
+
+-- 2) 변환 확인 (모두 6개 비트여야 함) - 0건이어야 함
+-- SELECT COUNT(*) FROM number_pool  WHERE BIT_COUNT(numbers_mask) <> 6;
+-- SELECT COUNT(*) FROM lotto_ticket WHERE BIT_COUNT(numbers_mask) <> 6;
+
+-- 3) NOT NULL 전환 + 기존 컬럼 제거 (행당 INT 6개 = 24바이트 → BIGINT 8바이트)
+ALTER TABLE number_pool
+    MODIFY numbers_mask BIGINT NOT NULL,
+    DROP COLUMN slot1, DROP COLUMN slot2, DROP COLUMN slot3,
+    DROP COLUMN slot4, DROP COLUMN slot5, DROP COLUMN slot6;
+
+ALTER TABLE lotto_ticket
+    MODIFY numbers_mask BIGINT NOT NULL,
+    DROP COLUMN num1, DROP COLUMN num2, DROP COLUMN num3,
+    DROP COLUMN num4, DROP COLUMN num5, DROP COLUMN num6;
+
+-- 4) 테이블 재구성 (공간 회수)
+-- OPTIMIZE TABLE number_pool, lotto_ticket;
@@ -0,0 +1,31 @@
+-- =============================================================
+-- 이벤트 목록 정렬용 인덱스 (MySQL)
+-- =============================================================
+-- findAllPaged의 진행 중(1) / 발표 중(2) / 발표 대기(3) 버킷 범위 조회용
+-- 선두 컬럼은 `>= now` 쪽 (end_at / announce_end_at)
+--   → 과거 이벤트가 쌓여도 범위가 현재 이후 소수 행으로 좁혀짐
+--   (start_at 선두면 start_at <= now 범위가 과거 이력 전체가 됨)
+ALTER TABLE event
+    ADD INDEX idx_event_period (end_at, start_at),
+    ADD INDEX idx_event_announce (announce_end_at, announce_start_at);
+
+-- 이전 순서 (start_at, end_at) / (announce_start_at, announce_end_at)로 이미 만든 경우
+-- ALTER TABLE event
+--     DROP INDEX idx_event_period,
+--     DROP INDEX idx_event_announce,
+--     ADD INDEX idx_event_period (end_at, start_at),
+--     ADD INDEX idx_event_announce (announce_end_at, announce_start_at);
+
+-- 확인 - 과거 이력이 많은 DB에서 버킷별 실행 계획 (key / rows 확인, 적용 전후 비교)
+EXPLAIN SELECT event_id FROM event
+WHERE start_at <= NOW() AND end_at >= NOW()
+ORDER BY event_id DESC LIMIT 20;
+
+EXPLAIN SELECT event_id FROM event
+WHERE (start_at > NOW() OR end_at < NOW())
+  AND announce_start_at <= NOW() AND announce_end_at >= NOW()
+ORDER BY event_id DESC LIMIT 20;
+
+EXPLAIN SELECT event_id FROM event
+WHERE end_at < NOW() AND announce_start_at > NOW() AND announce_end_at > NOW()
+ORDER BY event_id DESC LIMIT 20;
@@ -0,0 +1,57 @@
+-- =============================================================
+-- number_pool / participant 이벤트별 LIST 파티션 (MySQL 전용, 선택 적용)
+-- =============================================================
+-- - 적용 후 storage.event-partitions.enabled=true 로 실행 (새 이벤트 파티션 추가 / 보관을 애플리케이션이 처리)
+-- - 파티션 테이블은 FK를 가질 수 없고 참조될 수도 없다 → 관련 FK 5개 제거 (정합성은 애플리케이션이 보장)
+-- - 모든 UNIQUE 키에 파티션 키(event_id)가 포함되어야 한다 → PK에 event_id 추가
+-- - 테이블당 파티션은 최대 8192개 - 보관 처리로 진행/발표 중인 이벤트 수만큼만 유지
+-- - 대형 테이블의 ALTER는 테이블을 다시 만드므로 점검 시간에 실행
+
+-- 1) FK 제거
+ALTER TABLE number_pool  DROP FOREIGN KEY fk_pool_event;
+ALTER TABLE participant  DROP FOREIGN KEY fk_participant_event;
+ALTER TABLE lotto_ticket DROP FOREIGN KEY fk_ticket_participant;
+ALTER TABLE sms_log      DROP FOREIGN KEY fk_sms_participant;
+ALTER TABLE result_view  DROP FOREIGN KEY fk_result_view_participant;
+
+-- 2) PK에 event_id 추가 (AUTO_INCREMENT 컬럼은 그대로 PK 첫 컬럼)
+ALTER TABLE number_pool
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (pool_id, event_id);
+
+ALTER TABLE participant
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (participant_id, event_id);
+
+-- 3) 기존 이벤트마다 파티션 p{event_id} 생성 (event가 비어 있으면 @partitions가 NULL - 이벤트 1개 이상 있을 때 실행)
+SET SESSION group_concat_max_len = 1048576;
+
+SET @partitions = (
+    SELECT GROUP_CONCAT(CONCAT('PARTITION p', event_id, ' VALUES IN (', event_id, ')') ORDER BY event_id)
+    FROM event
+);
+
+SET @ddl = CONCAT('ALTER TABLE number_pool PARTITION BY LIST (event_id) (', @partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('ALTER TABLE participant PARTITION BY LIST (event_id) (', @partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4) 확인 - 이벤트별 행 수 / 인덱스 크기
+SELECT TABLE_NAME, PARTITION_NAME, TABLE_ROWS, INDEX_LENGTH
+FROM information_schema.PARTITIONS
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME IN ('number_pool', 'participant')
+ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION;
+
+-- 이후 파티션 관리는 EventPartitionService 가 수행
+-- - 번호 풀 생성 전 : ALTER TABLE number_pool ADD PARTITION (PARTITION p{id} VALUES IN ({id}))
+-- - 발표 종료 + 보관 기간 후 :
+--     CREATE TABLE participant_archive_{id} LIKE participant; ALTER TABLE participant_archive_{id} REMOVE PARTITIONING;
+--     ALTER TABLE participant EXCHANGE PARTITION p{id} WITH TABLE participant_archive_{id};
+--     ALTER TABLE participant DROP PARTITION p{id}; ALTER TABLE number_pool DROP PARTITION p{id};
+-- - 보관 테이블은 백업 후 DROP TABLE participant_archive_{id}
@@ -0,0 +1,16 @@
+-- =============================================================
+-- participant.phone_hmac 마이그레이션 (MySQL, phone.hash.mode)
+-- =============================================================
+-- 1) LEGACY -> DUAL : 컬럼/인덱스 추가 후 PHONE_HASH_MODE=DUAL 로 배포
+--    - 신규 참가자는 phone_hash + phone_hmac 모두 저장
+--    - 기존 참가자는 조회될 때 phone_hmac이 채워짐 (phone_hash 보조 조회)
+ALTER TABLE participant
+    MODIFY phone_hash VARCHAR(255) NULL,
+    ADD COLUMN phone_hmac VARBINARY(32) NULL AFTER phone_hash,
+    ADD UNIQUE INDEX uk_event_phone_hmac (event_id, phone_hmac);
+
+-- 2) 진행 중/발표 중 이벤트의 phone_hmac이 모두 채워졌는지 확인
+-- SELECT event_id, COUNT(*) FROM participant WHERE phone_hmac IS NULL GROUP BY event_id;
+
+-- 3) DUAL -> HMAC : PHONE_HASH_MODE=HMAC 로 배포 후 기존 인덱스 제거
+-- ALTER TABLE participant DROP INDEX uk_event_phone;
@@ -0,0 +1,29 @@
+-- =============================================================
+-- phone_verification 월 단위 RANGE 파티션 (MySQL 전용, 선택 적용)
+-- =============================================================
+-- - 파티션 테이블은 FK를 가질 수 없고, PK에 파티션 키(requested_at)가 포함되어야 한다.
+-- - 적용 후에는 verification.sweeper.retention-days=0 으로 두고
+--   오래된 파티션을 DROP PARTITION 으로 정리한다. (DELETE 없이 메타데이터 작업으로 끝남)
+
+ALTER TABLE phone_verification DROP FOREIGN KEY fk_verification_event;
+
+ALTER TABLE phone_verification
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (verification_id, requested_at);
+
+ALTER TABLE phone_verification
+    PARTITION BY RANGE COLUMNS (requested_at) (
+        PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+        PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+        PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+        PARTITION p_max   VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 매월 다음 달 파티션 추가 (p_max 분할)
+-- ALTER TABLE phone_verification REORGANIZE PARTITION p_max INTO (
+--     PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+--     PARTITION p_max   VALUES LESS THAN (MAXVALUE)
+-- );
+
+-- 보관 기간이 지난 파티션 삭제
+-- ALTER TABLE phone_verification DROP PARTITION p202601;
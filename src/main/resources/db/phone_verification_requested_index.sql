@@ -0,0 +1,15 @@
+-- =============================================================
+-- 인증 이력 보관 조회용 인덱스 (MySQL)
+-- =============================================================
+-- findArchivableIds (requested_at < cutoff, 오래된 순) 범위 스캔용
+--   → 보관 대상이 없을 때도 cutoff 이후 행을 읽지 않음
+--   (PK 순서로 걸으면서 requested_at을 거르면 보관 기간 내 행 전체를 읽음)
+-- 월 단위 파티션(phone_verification_partition.sql) + retention-days=0 으로 운영하면 보관 조회를 하지 않으므로 필요 없음
+ALTER TABLE phone_verification
+    ADD INDEX idx_verification_requested (requested_at, verification_id);
+
+-- 확인 - key가 idx_verification_requested, Extra에 filesort가 없어야 함
+EXPLAIN SELECT verification_id FROM phone_verification
+WHERE requested_at < NOW() - INTERVAL 7 DAY
+ORDER BY requested_at, verification_id
+LIMIT 500;
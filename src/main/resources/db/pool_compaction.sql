@@ -0,0 +1,27 @@
+-- =============================================================
+-- 종료된 이벤트 번호 풀 정리 기록 (MySQL)
+-- =============================================================
+-- 적용 후 ENDED 이벤트(기존 이벤트 포함)의 number_pool 행을 PoolCompactionService가 청크 단위로 삭제
+CREATE TABLE pool_compaction (
+    event_id                BIGINT                                              NOT NULL,
+    status                  ENUM('RUNNING','COMPLETED','FAILED')                NOT NULL DEFAULT 'RUNNING',
+    deleted_rows            BIGINT                                              NOT NULL DEFAULT 0,
+    reclaimed_bytes         BIGINT                                              NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    started_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_pool_compaction_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+-- 확인 - 정리 현황
+SELECT c.event_id, c.status, c.deleted_rows, ROUND(c.reclaimed_bytes / 1024 / 1024, 1) AS reclaimed_mb, c.updated_at
+FROM pool_compaction c
+ORDER BY c.event_id DESC;
+
+-- 참고: InnoDB는 DELETE로 비운 페이지를 파일 크기로 돌려주지 않고 재사용함 (DATA_FREE 증가)
+-- 디스크까지 줄이려면 점검 시간에 OPTIMIZE TABLE number_pool; (이벤트별 파티션 모드면 DROP PARTITION으로 즉시 반환)
+SELECT DATA_LENGTH, INDEX_LENGTH, DATA_FREE
+FROM information_schema.TABLES
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME = 'number_pool';
@@ -0,0 +1,25 @@
+-- =============================================================
+-- pool_generation 마이그레이션 (MySQL)
+-- =============================================================
+-- 1) 작업 테이블 생성 (schema.sql 과 동일)
+CREATE TABLE pool_generation (
+    job_id                  BIGINT                                              NOT NULL AUTO_INCREMENT,
+    event_id                BIGINT                                              NOT NULL,
+    status                  ENUM('RUNNING','COMPLETED','FAILED')                NOT NULL DEFAULT 'RUNNING',
+    seed                    BIGINT                                              NOT NULL,
+    total_slots             INT                                                 NOT NULL,
+    inserted_slots          INT                                                 NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    created_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_id),
+    UNIQUE INDEX uk_pool_generation_event (event_id),
+    CONSTRAINT fk_pool_generation_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+-- 2) 이미 번호 풀이 있는 이벤트는 COMPLETED 작업으로 등록
+--    - READY -> ACTIVE 자동 전환이 완료된 작업이 있는 이벤트만 대상으로 하므로 배포 전에 실행
+INSERT INTO pool_generation (event_id, status, seed, total_slots, inserted_slots)
+SELECT event_id, 'COMPLETED', 0, COUNT(*), COUNT(*)
+FROM number_pool
+GROUP BY event_id;
@@ -0,0 +1,14 @@
+-- =============================================================
+-- 읽기 복제본 지연 측정 테이블 (MySQL)
+-- =============================================================
+-- primary에 만들면 복제본으로 같이 복제됨 (행은 애플리케이션이 처음 기록할 때 생성)
+CREATE TABLE replica_heartbeat (
+    id                      TINYINT                                             NOT NULL,
+    beat_millis             BIGINT                                              NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 확인 - 복제본에서 실행, 지연(ms) = 현재 시각 - beat_millis
+SELECT beat_millis, ROUND(UNIX_TIMESTAMP(NOW(3)) * 1000) - beat_millis AS lag_millis
+FROM replica_heartbeat
+WHERE id = 1;
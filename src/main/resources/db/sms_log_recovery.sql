@@ -0,0 +1,14 @@
+-- =============================================================
+-- sms_log 발송 본문 + 회수 인덱스 (MySQL)
+-- =============================================================
+-- 적용 후 enqueue 시점에 REQUESTED 행(본문 포함)을 만들고, 리더 노드가 오래 남은 REQUESTED 행을 다시 발송
+-- 적용 전 생성된 REQUESTED 행은 본문이 없어 회수하지 않음
+ALTER TABLE sms_log
+    ADD COLUMN body VARCHAR(500) NULL AFTER status,
+    ADD INDEX idx_sms_status (status, requested_at);
+
+-- 확인 - 회수 대기 건수
+SELECT type, COUNT(*) AS requested, MIN(requested_at) AS oldest
+FROM sms_log
+WHERE status = 'REQUESTED'
+GROUP BY type;
@@ -0,0 +1,23 @@
+-- =============================================================
+-- ticket_seq 구간 예약 테이블 (MySQL)
+-- =============================================================
+-- 기존 MAX(ticket_seq) + 1 방식은 잠금 없이 읽어서 단건 참가 / 묶음 참가 / 일괄 등록 / 다른 노드와 같은 번호를 잡음
+-- 적용 후에는 모든 발급 경로가 ticket_sequence 행을 UPDATE해서 구간을 예약 (행이 없으면 MAX + 1로 생성)
+CREATE TABLE ticket_sequence (
+    event_id                BIGINT                                              NOT NULL,
+    next_seq                INT                                                 NOT NULL,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_ticket_sequence_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+-- 진행 중인 이벤트는 배포 전에 미리 생성 (없으면 첫 발급 시 자동 생성)
+INSERT INTO ticket_sequence (event_id, next_seq)
+SELECT e.event_id, COALESCE((SELECT MAX(p.ticket_seq) FROM participant p WHERE p.event_id = e.event_id), 0) + 1
+FROM event e
+WHERE e.status <> 'ENDED';
+
+-- 확인 - next_seq는 항상 MAX(ticket_seq) + 1 이상
+SELECT s.event_id, s.next_seq, MAX(p.ticket_seq) AS max_seq
+FROM ticket_sequence s
+LEFT JOIN participant p ON p.event_id = s.event_id
+GROUP BY s.event_id, s.next_seq;
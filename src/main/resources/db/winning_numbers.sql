@@ -0,0 +1,19 @@
+-- =============================================================
+-- 당첨 번호 저장 마이그레이션 (MySQL)
+-- =============================================================
+-- 1) 당첨 번호 컬럼 추가 (schema.sql 과 동일, 번호 풀 생성 완료 시 채워짐)
+ALTER TABLE event
+    ADD COLUMN winning_mask BIGINT NULL AFTER winner_phone_hash;
+
+-- 2) 기존 이벤트 백필
+--    - 1등 슬롯은 당첨 번호 6개와 완전히 일치하므로 그대로 복사
+UPDATE event e
+    JOIN number_pool p ON p.event_id = e.event_id AND p.result = 'FIRST'
+SET e.winning_mask = p.numbers_mask
+WHERE e.winning_mask IS NULL;
+
+-- 3) 확인 - 풀이 있는데 당첨 번호가 비어 있는 이벤트 (0건이어야 함)
+SELECT e.event_id
+FROM event e
+WHERE e.winning_mask IS NULL
+  AND EXISTS (SELECT 1 FROM number_pool p WHERE p.event_id = e.event_id);
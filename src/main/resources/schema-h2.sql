@@ -11,32 +11,33 @@ CREATE TABLE IF NOT EXISTS event (
     announce_end_at         DATETIME                                            NULL,
     status                  VARCHAR(10)                                         NOT NULL DEFAULT 'READY',
     winner_phone_hash       VARCHAR(255)                                        NOT NULL,
+    winning_mask            BIGINT                                              NULL,
     PRIMARY KEY (event_id),
     CHECK (status IN ('READY','ACTIVE','ENDED'))
 );
 
+CREATE INDEX IF NOT EXISTS idx_event_period ON event (end_at, start_at);
+CREATE INDEX IF NOT EXISTS idx_event_announce ON event (announce_end_at, announce_start_at);
+
 CREATE TABLE IF NOT EXISTS participant (
     participant_id          BIGINT                                              NOT NULL AUTO_INCREMENT,
     event_id                BIGINT                                              NOT NULL,
-    phone_hash              VARCHAR(255)                                        NOT NULL,
+    phone_hash              VARCHAR(255)                                        NULL,
+    phone_hmac              VARBINARY(32)                                       NULL,
     phone_encrypted         VARCHAR(255)                                        NOT NULL,
     phone_last4             VARCHAR(4)                                          NOT NULL,
     ticket_seq              INT                                                 NOT NULL,
     created_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (participant_id),
     UNIQUE (event_id, phone_hash),
+    UNIQUE (event_id, phone_hmac),
     UNIQUE (event_id, ticket_seq),
     CONSTRAINT fk_participant_event FOREIGN KEY (event_id) REFERENCES event (event_id)
 );
 
 CREATE TABLE IF NOT EXISTS number_pool (
     pool_id                 BIGINT                                              NOT NULL AUTO_INCREMENT,
-    slot1                   INT                                                 NOT NULL,
-    slot2                   INT                                                 NOT NULL,
-    slot3                   INT                                                 NOT NULL,
-    slot4                   INT                                                 NOT NULL,
-    slot5                   INT                                                 NOT NULL,
-    slot6                   INT                                                 NOT NULL,
+    numbers_mask            BIGINT                                              NOT NULL,
     result                  VARCHAR(10)                                         NOT NULL,
     is_used                 TINYINT                                             NOT NULL DEFAULT 0,
     event_id                BIGINT                                              NOT NULL,
@@ -48,12 +49,7 @@ CREATE TABLE IF NOT EXISTS number_pool (
 CREATE TABLE IF NOT EXISTS lotto_ticket (
     ticket_id               BIGINT                                              NOT NULL AUTO_INCREMENT,
     participant_id          BIGINT                                              NOT NULL,
-    num1                    INT                                                 NOT NULL,
-    num2                    INT                                                 NOT NULL,
-    num3                    INT                                                 NOT NULL,
-    num4                    INT                                                 NOT NULL,
-    num5                    INT                                                 NOT NULL,
-    num6                    INT                                                 NOT NULL,
+    numbers_mask            BIGINT                                              NOT NULL,
     result                  VARCHAR(10)                                         NOT NULL,
     issued_at               DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (ticket_id),
@@ -73,11 +69,26 @@ CREATE TABLE IF NOT EXISTS phone_verification (
     CONSTRAINT fk_verification_event FOREIGN KEY (event_id) REFERENCES event (event_id)
 );
 
+CREATE INDEX IF NOT EXISTS idx_verification_status ON phone_verification (status, verification_id);
+CREATE INDEX IF NOT EXISTS idx_verification_requested ON phone_verification (requested_at, verification_id);
+
+CREATE TABLE IF NOT EXISTS phone_verification_archive (
+    verification_id         BIGINT                                              NOT NULL,
+    event_id                BIGINT                                              NOT NULL,
+    status                  VARCHAR(10)                                         NOT NULL,
+    requested_at            DATETIME                                            NOT NULL,
+    verified_at             DATETIME                                            NULL,
+    expired_at              DATETIME                                            NULL,
+    archived_at             DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (verification_id)
+);
+
 CREATE TABLE IF NOT EXISTS sms_log (
     sms_id                  BIGINT                                              NOT NULL AUTO_INCREMENT,
     participant_id          BIGINT                                              NOT NULL,
     type                    VARCHAR(10)                                         NOT NULL,
     status                  VARCHAR(10)                                         NOT NULL DEFAULT 'REQUESTED',
+    body                    VARCHAR(500)                                        NULL,
     requested_at            DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     completed_at            DATETIME                                            NULL,
     PRIMARY KEY (sms_id),
@@ -85,6 +96,7 @@ CREATE TABLE IF NOT EXISTS sms_log (
     CHECK (status IN ('REQUESTED','SUCCESS','FAILED')),
     CONSTRAINT fk_sms_participant FOREIGN KEY (participant_id) REFERENCES participant (participant_id)
 );
+CREATE INDEX IF NOT EXISTS idx_sms_status ON sms_log (status, requested_at);
 
 CREATE TABLE IF NOT EXISTS result_view (
     participant_id          BIGINT                                              NOT NULL,
@@ -94,3 +106,82 @@ CREATE TABLE IF NOT EXISTS result_view (
     PRIMARY KEY (participant_id),
     CONSTRAINT fk_result_view_participant FOREIGN KEY (participant_id) REFERENCES participant (participant_id)
 );
+
+CREATE TABLE IF NOT EXISTS participant_import (
+    import_id               BIGINT                                              NOT NULL AUTO_INCREMENT,
+    event_id                BIGINT                                              NOT NULL,
+    file_name               VARCHAR(255)                                        NULL,
+    status                  VARCHAR(10)                                         NOT NULL DEFAULT 'RUNNING',
+    processed_lines         BIGINT                                              NOT NULL DEFAULT 0,
+    imported_rows           BIGINT                                              NOT NULL DEFAULT 0,
+    skipped_rows            BIGINT                                              NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    created_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (import_id),
+    CHECK (status IN ('RUNNING','COMPLETED','FAILED')),
+    CONSTRAINT fk_import_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_participant_event ON participant (event_id, participant_id);
+
+CREATE TABLE IF NOT EXISTS reminder_progress (
+    event_id                BIGINT                                              NOT NULL,
+    status                  VARCHAR(10)                                         NOT NULL DEFAULT 'RUNNING',
+    last_participant_id     BIGINT                                              NOT NULL DEFAULT 0,
+    sent_count              BIGINT                                              NOT NULL DEFAULT 0,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id),
+    CHECK (status IN ('RUNNING','COMPLETED')),
+    CONSTRAINT fk_reminder_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+    name                    VARCHAR(50)                                         NOT NULL,
+    owner                   VARCHAR(100)                                        NOT NULL,
+    expires_at              DATETIME                                            NOT NULL,
+    PRIMARY KEY (name)
+);
+
+CREATE TABLE IF NOT EXISTS pool_generation (
+    job_id                  BIGINT                                              NOT NULL AUTO_INCREMENT,
+    event_id                BIGINT                                              NOT NULL,
+    status                  VARCHAR(10)                                         NOT NULL DEFAULT 'RUNNING',
+    seed                    BIGINT                                              NOT NULL,
+    total_slots             INT                                                 NOT NULL,
+    inserted_slots          INT                                                 NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    created_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_id),
+    UNIQUE (event_id),
+    CHECK (status IN ('RUNNING','COMPLETED','FAILED')),
+    CONSTRAINT fk_pool_generation_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+CREATE TABLE IF NOT EXISTS pool_compaction (
+    event_id                BIGINT                                              NOT NULL,
+    status                  VARCHAR(10)                                         NOT NULL DEFAULT 'RUNNING',
+    deleted_rows            BIGINT                                              NOT NULL DEFAULT 0,
+    reclaimed_bytes         BIGINT                                              NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    started_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id),
+    CHECK (status IN ('RUNNING','COMPLETED','FAILED')),
+    CONSTRAINT fk_pool_compaction_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id                      TINYINT                                             NOT NULL,
+    beat_millis             BIGINT                                              NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 이벤트별 다음 ticket_seq - UPDATE next_seq = next_seq + n 으로 구간을 원자적으로 예약 (단건 / 묶음 / 일괄 등록 공용)
+CREATE TABLE IF NOT EXISTS ticket_sequence (
+    event_id                BIGINT                                              NOT NULL,
+    next_seq                INT                                                 NOT NULL,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_ticket_sequence_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
@@ -11,31 +11,32 @@ CREATE TABLE event (
     announce_end_at         DATETIME                                            NULL,
     status                  ENUM('READY','ACTIVE','ENDED')                      NOT NULL DEFAULT 'READY',
     winner_phone_hash       VARCHAR(255)                                        NOT NULL,
-    PRIMARY KEY (event_id)
+    winning_mask            BIGINT                                              NULL,
+    PRIMARY KEY (event_id),
+    INDEX idx_event_period (end_at, start_at),
+    INDEX idx_event_announce (announce_end_at, announce_start_at)
 );
 
 CREATE TABLE participant (
     participant_id          BIGINT                                              NOT NULL AUTO_INCREMENT,
     event_id                BIGINT                                              NOT NULL,
-    phone_hash              VARCHAR(255)                                        NOT NULL,
+    phone_hash              VARCHAR(255)                                        NULL,
+    phone_hmac              VARBINARY(32)                                       NULL,
     phone_encrypted         VARCHAR(255)                                        NOT NULL,
     phone_last4             VARCHAR(4)                                          NOT NULL,
     ticket_seq              INT                                                 NOT NULL,
     created_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (participant_id),
     UNIQUE INDEX uk_event_phone (event_id, phone_hash),
+    UNIQUE INDEX uk_event_phone_hmac (event_id, phone_hmac),
     UNIQUE INDEX uk_event_ticket_seq (event_id, ticket_seq),
+    INDEX idx_participant_event (event_id, participant_id),
     CONSTRAINT fk_participant_event FOREIGN KEY (event_id) REFERENCES event (event_id)
 );
 
 CREATE TABLE number_pool (
     pool_id                 BIGINT                                              NOT NULL AUTO_INCREMENT,
-    slot1                   INT                                                 NOT NULL,
-    slot2                   INT                                                 NOT NULL,
-    slot3                   INT                                                 NOT NULL,
-    slot4                   INT                                                 NOT NULL,
-    slot5                   INT                                                 NOT NULL,
-    slot6                   INT                                                 NOT NULL,
+    numbers_mask            BIGINT                                              NOT NULL,
     result                  ENUM('FIRST','SECOND','THIRD','FOURTH','NONE')      NOT NULL,
     is_used                 TINYINT                                             NOT NULL DEFAULT 0,
     event_id                BIGINT                                              NOT NULL,
@@ -47,12 +48,7 @@ CREATE TABLE number_pool (
 CREATE TABLE lotto_ticket (
     ticket_id               BIGINT                                              NOT NULL AUTO_INCREMENT,
     participant_id          BIGINT                                              NOT NULL,
-    num1                    INT                                                 NOT NULL,
-    num2                    INT                                                 NOT NULL,
-    num3                    INT                                                 NOT NULL,
-    num4                    INT                                                 NOT NULL,
-    num5                    INT                                                 NOT NULL,
-    num6                    INT                                                 NOT NULL,
+    numbers_mask            BIGINT                                              NOT NULL,
     result                  ENUM('FIRST','SECOND','THIRD','FOURTH','NONE')      NOT NULL,
     issued_at               DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (ticket_id),
@@ -69,18 +65,34 @@ CREATE TABLE phone_verification (
     expired_at              DATETIME                                            NULL,
     PRIMARY KEY (verification_id),
     INDEX idx_verification_event (event_id),
+    INDEX idx_verification_status (status, verification_id),
+    INDEX idx_verification_requested (requested_at, verification_id),
     CONSTRAINT fk_verification_event FOREIGN KEY (event_id) REFERENCES event (event_id)
 );
 
+-- 만료/보관 주기가 지난 인증 이력 보관용 (FK 없음, 운영 테이블 크기 유지 목적)
+CREATE TABLE phone_verification_archive (
+    verification_id         BIGINT                                              NOT NULL,
+    event_id                BIGINT                                              NOT NULL,
+    status                  ENUM('REQUESTED','VERIFIED','EXPIRED')              NOT NULL,
+    requested_at            DATETIME                                            NOT NULL,
+    verified_at             DATETIME                                            NULL,
+    expired_at              DATETIME                                            NULL,
+    archived_at             DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (verification_id)
+);
+
 CREATE TABLE sms_log (
     sms_id                  BIGINT                                              NOT NULL AUTO_INCREMENT,
     participant_id          BIGINT                                              NOT NULL,
     type                    ENUM('TICKET','REMINDER')                           NOT NULL,
     status                  ENUM('REQUESTED','SUCCESS','FAILED')                NOT NULL DEFAULT 'REQUESTED',
+    body                    VARCHAR(500)                                        NULL,
     requested_at            DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     completed_at            DATETIME                                            NULL,
     PRIMARY KEY (sms_id),
     INDEX idx_sms_participant (participant_id),
+    INDEX idx_sms_status (status, requested_at),
     CONSTRAINT fk_sms_participant FOREIGN KEY (participant_id) REFERENCES participant (participant_id)
 );
 
@@ -93,3 +105,83 @@ CREATE TABLE result_view (
     INDEX idx_view_participant (participant_id),
     CONSTRAINT fk_result_view_participant FOREIGN KEY (participant_id) REFERENCES participant (participant_id)
 );
+
+-- 참가자 일괄 등록(CSV) 진행 상황 - 실패 시 processed_lines 이후부터 이어서 처리
+CREATE TABLE participant_import (
+    import_id               BIGINT                                              NOT NULL AUTO_INCREMENT,
+    event_id                BIGINT                                              NOT NULL,
+    file_name               VARCHAR(255)                                        NULL,
+    status                  ENUM('RUNNING','COMPLETED','FAILED')                NOT NULL DEFAULT 'RUNNING',
+    processed_lines         BIGINT                                              NOT NULL DEFAULT 0,
+    imported_rows           BIGINT                                              NOT NULL DEFAULT 0,
+    skipped_rows            BIGINT                                              NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    created_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (import_id),
+    INDEX idx_import_event (event_id),
+    CONSTRAINT fk_import_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+-- 결과 발표 안내 SMS 일괄 발송 진행 상황 - 이벤트당 1행, 중단 시 last_participant_id 이후부터 재개
+CREATE TABLE reminder_progress (
+    event_id                BIGINT                                              NOT NULL,
+    status                  ENUM('RUNNING','COMPLETED')                         NOT NULL DEFAULT 'RUNNING',
+    last_participant_id     BIGINT                                              NOT NULL DEFAULT 0,
+    sent_count              BIGINT                                              NOT NULL DEFAULT 0,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_reminder_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+-- 스케줄러 리더 선출용 DB 리스 - expires_at이 지나면 다른 노드가 획득
+CREATE TABLE scheduler_lease (
+    name                    VARCHAR(50)                                         NOT NULL,
+    owner                   VARCHAR(100)                                        NOT NULL,
+    expires_at              DATETIME                                            NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- 번호 풀 생성 작업 (이벤트당 1개) - inserted_slots 이후부터 재개, 같은 seed로 같은 풀을 다시 만듦
+CREATE TABLE pool_generation (
+    job_id                  BIGINT                                              NOT NULL AUTO_INCREMENT,
+    event_id                BIGINT                                              NOT NULL,
+    status                  ENUM('RUNNING','COMPLETED','FAILED')                NOT NULL DEFAULT 'RUNNING',
+    seed                    BIGINT                                              NOT NULL,
+    total_slots             INT                                                 NOT NULL,
+    inserted_slots          INT                                                 NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    created_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_id),
+    UNIQUE INDEX uk_pool_generation_event (event_id),
+    CONSTRAINT fk_pool_generation_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+-- 종료된 이벤트 번호 풀 정리 기록 (이벤트당 1개) - reclaimed_bytes는 추정치
+CREATE TABLE pool_compaction (
+    event_id                BIGINT                                              NOT NULL,
+    status                  ENUM('RUNNING','COMPLETED','FAILED')                NOT NULL DEFAULT 'RUNNING',
+    deleted_rows            BIGINT                                              NOT NULL DEFAULT 0,
+    reclaimed_bytes         BIGINT                                              NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500)                                        NULL,
+    started_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_pool_compaction_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
+
+-- 복제 지연 측정용 하트비트 (1행) - primary에 현재 시각(ms)을 쓰고 복제본에서 읽은 값과 비교
+CREATE TABLE replica_heartbeat (
+    id                      TINYINT                                             NOT NULL,
+    beat_millis             BIGINT                                              NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 이벤트별 다음 ticket_seq - UPDATE next_seq = next_seq + n 으로 구간을 원자적으로 예약 (단건 / 묶음 / 일괄 등록 공용)
+CREATE TABLE ticket_sequence (
+    event_id                BIGINT                                              NOT NULL,
+    next_seq                INT                                                 NOT NULL,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_ticket_sequence_event FOREIGN KEY (event_id) REFERENCES event (event_id)
+);
@@ -123,6 +123,7 @@ async function generatePool(eventId, btn) {
     const data = await safeJson(res);
     if (!res.ok) throw new Error((data && data.error) || '풀 생성 실패');
 
+    await waitForPool(eventId, btn);
     await loadEvents();
   } catch (err) {
     alert(err.message);
@@ -131,6 +132,24 @@ async function generatePool(eventId, btn) {
   }
 }
 
+/**
+ * 번호 풀 생성은 백그라운드 작업 → 완료/실패까지 진행률 폴링
+ */
+async function waitForPool(eventId, btn) {
+  while (true) {
+    const res = await fetch(`/api/events/${eventId}/pool-status`);
+    const job = await safeJson(res);
+    if (!res.ok || !job) throw new Error('풀 생성 상태 조회 실패');
+
+    if (job.status === 'COMPLETED') return;
+    if (job.status === 'FAILED') throw new Error(job.errorMessage || '풀 생성 실패');
+
+    const percent = job.totalSlots ? Math.floor((job.insertedSlots / job.totalSlots) * 100) : 0;
+    btn.textContent = `생성 중... ${percent}%`;
+    await new Promise((resolve) => setTimeout(resolve, 1000));
+  }
+}
+
 function formatDt(dt) {
   if (!dt) return '';
   return String(dt).replace('T', ' ').substring(0, 16);
@@ -1,6 +1,7 @@
 let eventId = null;
 let verificationId = null;
 let timerInterval = null;
+let queueToken = null;
 
 document.addEventListener('DOMContentLoaded', () => {
     const params = new URLSearchParams(window.location.search);
@@ -10,6 +11,7 @@ document.addEventListener('DOMContentLoaded', () => {
         return;
     }
     loadEvent();
+    enterQueue();
 });
 
 async function loadEvent() {
@@ -25,6 +27,45 @@ async function loadEvent() {
     }
 }
 
+// 대기열 입장 → 순서가 될 때까지 서버가 알려준 간격(retryAfterMs)으로 폴링
+async function enterQueue() {
+    try {
+        const res = await fetch('/api/queue', {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ eventId: Number(eventId) })
+        });
+        const data = await res.json();
+        if (!res.ok) throw new Error(data.error || '대기열 입장에 실패했습니다.');
+        queueToken = data.token;
+        waitQueue(data);
+    } catch (e) {
+        showError(e.message);
+    }
+}
+
+async function waitQueue(status) {
+    while (!status.admitted) {
+        document.getElementById('queue-ahead').textContent = status.ahead.toLocaleString();
+        await new Promise(resolve => setTimeout(resolve, status.retryAfterMs));
+
+        const res = await fetch(`/api/queue/${encodeURIComponent(queueToken)}`);
+        if (!res.ok) {
+            showError('대기 시간이 만료되었습니다. 새로고침 후 다시 시도해주세요.');
+            return;
+        }
+        status = await res.json();
+    }
+    document.getElementById('step-queue').classList.add('hidden');
+    document.getElementById('step-phone').classList.remove('hidden');
+}
+
+function queueHeaders() {
+    const headers = { 'Content-Type': 'application/json' };
+    if (queueToken) headers['X-Queue-Token'] = queueToken;
+    return headers;
+}
+
 async function sendCode() {
     const phoneNumber = document.getElementById('phone-number').value.trim();
     if (!/^010\d{8}$/.test(phoneNumber)) {
@@ -40,7 +81,7 @@ async function sendCode() {
     try {
         const res = await fetch('/api/verification/send', {
             method: 'POST',
-            headers: { 'Content-Type': 'application/json' },
+            headers: queueHeaders(),
             body: JSON.stringify({ phoneNumber, eventId: Number(eventId) })
         });
         const data = await res.json();
@@ -101,7 +142,7 @@ async function participate() {
     try {
         const res = await fetch('/api/lotto/participate', {
             method: 'POST',
-            headers: { 'Content-Type': 'application/json' },
+            headers: queueHeaders(),
             body: JSON.stringify({
                 phoneNumber,
                 eventId: Number(eventId),
@@ -0,0 +1,90 @@
+package com.company.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.lotto.domain.Event;
+import com.company.lotto.domain.Event.EventStatus;
+import com.company.lotto.domain.LottoNumbers;
+import com.company.lotto.domain.NumberPool.PoolResult;
+import com.company.lotto.domain.Participant;
+import com.company.lotto.domain.ParticipantEntry;
+import com.company.lotto.dto.lotto.ParticipateResponse;
+import com.company.lotto.repository.EventMapper;
+import com.company.lotto.repository.LottoTicketMapper;
+import com.company.lotto.repository.NumberPoolMapper;
+import com.company.lotto.repository.ParticipantMapper;
+import com.company.lotto.repository.ResultViewMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * 참가 INSERT 충돌(중복 키) 경로 - 참가자 필터가 다른 노드의 참가를 모르는 경우에도 기존 발급 번호로 응답하는지 확인
+ */
+class LottoServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long VERIFICATION_ID = 10L;
+    private static final String PHONE = "01012345678";
+    private static final PhoneKey PHONE_KEY = new PhoneKey("a".repeat(64), null);
+
+    private final EventMapper eventMapper = mock(EventMapper.class);
+    private final ParticipantMapper participantMapper = mock(ParticipantMapper.class);
+    private final NumberPoolMapper numberPoolMapper = mock(NumberPoolMapper.class);
+    private final LottoTicketMapper lottoTicketMapper = mock(LottoTicketMapper.class);
+    private final ResultViewMapper resultViewMapper = mock(ResultViewMapper.class);
+    private final VerificationService verificationService = mock(VerificationService.class);
+    private final SmsDispatcher smsDispatcher = mock(SmsDispatcher.class);
+    private final ResultReadModel resultReadModel = mock(ResultReadModel.class);
+    private final ParticipantFilter participantFilter = mock(ParticipantFilter.class);
+    private final TicketSeqAllocator ticketSeqAllocator = mock(TicketSeqAllocator.class);
+
+    private final LottoService lottoService = new LottoService(eventMapper, participantMapper, numberPoolMapper,
+            lottoTicketMapper, resultViewMapper, verificationService, smsDispatcher, resultReadModel, participantFilter,
+            ticketSeqAllocator);
+
+    @BeforeEach
+    void setUp() {
+        Event event = new Event();
+        event.setEventId(EVENT_ID);
+        event.setStatus(EventStatus.ACTIVE);
+
+        when(verificationService.isVerified(VERIFICATION_ID)).thenReturn(true);
+        when(verificationService.phoneKey(PHONE)).thenReturn(PHONE_KEY);
+        when(verificationService.getPhoneHashMode()).thenReturn(PhoneHashMode.LEGACY);
+        when(verificationService.encryptPhone(PHONE)).thenReturn("encrypted");
+        when(eventMapper.findById(EVENT_ID)).thenReturn(event);
+        when(ticketSeqAllocator.reserve(EVENT_ID, 1)).thenReturn(1);
+
+        // 다른 노드에서 참가해서 이 노드의 필터에는 없음 → 필터는 항상 "참가 이력 없음"
+        when(participantFilter.absentEntry(EVENT_ID, PHONE_KEY)).thenReturn(
+                new ParticipantEntry(EVENT_ID, null, null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    void duplicateKeyReturnsExistingTicketFromDbEvenIfFilterMisses() {
+        LottoNumbers numbers = LottoNumbers.of(List.of(1, 2, 3, 4, 5, 6));
+        doThrow(new DuplicateKeyException("uk_event_phone")).when(participantMapper).insertParticipant(any(Participant.class));
+        when(participantMapper.findEntryByPhoneHash(PHONE_KEY.hash(), EVENT_ID)).thenReturn(
+                new ParticipantEntry(EVENT_ID, null, null, 100L, null, null, "5678", numbers, PoolResult.NONE, null));
+
+        ParticipateResponse response = lottoService.participate(PHONE, EVENT_ID, VERIFICATION_ID);
+
+        assertTrue(response.isAlreadyIssued());
+        assertEquals(numbers.toList(), response.getLottoNumbers());
+        assertEquals("5678", response.getPhoneLast4());
+        // 충돌 1번 만에 DB에서 기존 발급을 찾음 (재시도 / 슬롯 배정 없음)
+        verify(participantMapper, times(1)).insertParticipant(any(Participant.class));
+        verify(numberPoolMapper, never()).markUsed(any(), anyLong());
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PhoneCrypto 해시가 기존 구현(replaceAll 정규화 + 문자열 연결 SHA-256)과 같은 값을 내는지 확인
+ * - 값이 달라지면 기존 참가자의 phone_hash가 매칭되지 않아 중복 참가가 허용됨
+ */
+class PhoneCryptoTest {
+
+    private static final String SALT = "lotto-event-phone-salt-2026";
+    private static final String PEPPER = "test-pepper";
+
+    private static final List<String> INPUTS = List.of(
+            "01012345678",
+            "010-1234-5678",
+            "010 1234 5678",
+            " 010-1234 5678 ",
+            "+82 10-1234-5678",
+            "+821012345678",
+            "821012345678",
+            "82-10-1234-5678",
+            "(010) 1234.5678",
+            "0821012345678",
+            "8",
+            "82",
+            "",
+            "abc",
+            "０１０１２３４５６７８",  // 전각 숫자 - 기존 [^0-9]도 ASCII만 남김
+            "010-1234-5678 내선 12"
+    );
+
+    private final PhoneCrypto phoneCrypto = new PhoneCrypto(SALT, PEPPER, "test-encrypt-key");
+
+    @Test
+    void normalizeMatchesLegacyReplaceAll() {
+        for (String input : INPUTS) {
+            assertArrayEquals(legacyNormalize(input).getBytes(StandardCharsets.UTF_8),
+                    PhoneCrypto.normalize(input), input);
+        }
+    }
+
+    @Test
+    void hashMatchesLegacyHash() throws Exception {
+        for (String input : INPUTS) {
+            assertEquals(legacyHash(input), phoneCrypto.hash(input), input);
+        }
+    }
+
+    @Test
+    void formattedInputsHashToSameValue() {
+        String expected = phoneCrypto.hash("01012345678");
+        for (String input : List.of("010-1234-5678", "010 1234 5678", "+82 10-1234-5678", "821012345678")) {
+            assertEquals(expected, phoneCrypto.hash(input), input);
+        }
+    }
+
+    @Test
+    void encryptRoundTrip() {
+        String encrypted = phoneCrypto.encrypt("010-1234-5678");
+        assertEquals("010-1234-5678", phoneCrypto.decrypt(encrypted));
+    }
+
+    @Test
+    void samePhoneComparesNormalizedNumbers() {
+        String encrypted = phoneCrypto.encrypt("010-1234-5678");
+        assertTrue(phoneCrypto.samePhone(encrypted, "+821012345678"));
+        assertFalse(phoneCrypto.samePhone(encrypted, "010-1234-5679"));
+    }
+
+    // 기존 정규화 - 정규식으로 숫자 외 문자 제거, 82로 시작하면 0으로 치환
+    private static String legacyNormalize(String phoneNumber) {
+        String digits = phoneNumber.replaceAll("[^0-9]", "");
+        if (digits.startsWith("82")) {
+            digits = "0" + digits.substring(2);
+        }
+        return digits;
+    }
+
+    // 기존 해시 - salt + 정규화 번호 + pepper 문자열을 이어 붙여 호출마다 새 MessageDigest로 SHA-256
+    private static String legacyHash(String phoneNumber) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        String salted = SALT + legacyNormalize(phoneNumber) + PEPPER;
+        return HexFormat.of().formatHex(digest.digest(salted.getBytes(StandardCharsets.UTF_8)));
+    }
+}